@@ -0,0 +1,134 @@
+package com.jay.sapapi.security.filter;
+
+import com.jay.sapapi.domain.Member;
+import com.jay.sapapi.domain.MemberRole;
+import com.jay.sapapi.security.dto.CustomUserDetails;
+import com.jay.sapapi.util.JWTUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh -> gc.alloc.rate.norm 으로 기존(baseline*) 필터와 요청당 할당량 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JWTCheckFilterBenchmark {
+
+    private static final String SECRET = "1234567890123456789012345678901234567890";
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    private final JWTCheckFilter filter = new JWTCheckFilter();
+
+    private String token;
+
+    private MockHttpServletRequest publicRequest;
+
+    private MockHttpServletRequest authenticatedRequest;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JWTUtil jwtUtil = new JWTUtil();
+        jwtUtil.setVerifiedCacheMaxEntries(10000);
+        jwtUtil.setSecretKey(SECRET);
+        token = JWTUtil.generateToken(Map.of(
+                "id", 1L,
+                "email", "sample@example.com",
+                "nickname", "sample",
+                "profileImageUrl", "sample.png",
+                "role", "USER"), 10);
+
+        publicRequest = new MockHttpServletRequest("GET", "/api/images/sample.png");
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/posts/");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    // 공개 경로 판별 (할당이 없어야 함)
+    @Benchmark
+    public boolean shouldNotFilter() {
+        return filter.shouldNotFilter(publicRequest);
+    }
+
+    // 기존 필터의 공개 경로 판별
+    @Benchmark
+    public boolean baselineShouldNotFilter() {
+        HttpServletRequest request = publicRequest;
+        if (request.getMethod().equals("OPTIONS")) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        if (request.getMethod().equals("GET")) {
+            if (path.equals("/") || path.equals("/docs") || path.startsWith("/api/users/") || path.startsWith("/api/images/")) {
+                return true;
+            }
+        }
+        if (request.getMethod().equals("POST")) {
+            if (path.equals("/api/users/") || path.startsWith("/api/auth/") || path.equals("/api/images/")) {
+                return true;
+            }
+        }
+        if (request.getMethod().equals("PUT")) {
+            return path.equals("/api/auth/tokens");
+        }
+        return false;
+    }
+
+    // 인증 요청 한 건 처리 (검증 캐시 적중)
+    @Benchmark
+    public void authenticatedRequest() throws Exception {
+        filter.doFilterInternal(authenticatedRequest, response, NOOP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    // 기존 필터 본문: 요청마다 키/파서 생성과 파싱, Member + CustomUserDetails 생성, info 로그 메시지 조립
+    // (로그 출력 자체는 벤치마크 설정에 따라 달라지므로 메시지 문자열까지만 만들어 Blackhole 에 넘김)
+    @Benchmark
+    public void baselineAuthenticatedRequest(Blackhole blackhole) throws Exception {
+        String accessToken = authenticatedRequest.getHeader("Authorization").substring(7);
+        Map<String, Object> claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+        blackhole.consume("JWT claims: " + claims);
+
+        Member member = Member.builder()
+                .id(Long.parseLong(claims.get("id").toString()))
+                .email((String) claims.get("email"))
+                .nickname((String) claims.get("nickname"))
+                .profileImageUrl((String) claims.get("profileImageUrl"))
+                .memberRole(MemberRole.valueOf((String) claims.get("role")))
+                .build();
+        blackhole.consume("Member: " + member);
+
+        CustomUserDetails customUserDetails = new CustomUserDetails(member);
+        blackhole.consume("CustomUserDetails: " + customUserDetails);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(customUserDetails, "", customUserDetails.getAuthorities()));
+        NOOP_CHAIN.doFilter(authenticatedRequest, response);
+        SecurityContextHolder.clearContext();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.jay.sapapi.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "1234567890123456789012345678901234567890";
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JWTUtil jwtUtil = new JWTUtil();
+        jwtUtil.setVerifiedCacheMaxEntries(10000);
+        jwtUtil.setSecretKey(SECRET);
+        token = JWTUtil.generateToken(Map.of(
+                "id", 1L,
+                "email", "sample@example.com",
+                "nickname", "sample",
+                "role", "USER"), 10);
+    }
+
+    // 기존 방식: 요청마다 키와 파서를 새로 생성
+    @Benchmark
+    public Claims perCallKeyAndParser() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    // 미리 만든 파서 (캐시 미스와 동일한 경로)
+    @Benchmark
+    public Claims prebuiltParser() {
+        return JWTUtil.parseClaims(token);
+    }
+
+    // 검증 캐시 적중
+    @Benchmark
+    public Map<String, Object> verifiedTokenCache() {
+        return JWTUtil.validateToken(token);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.jay.sapapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncExecutorConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${security.password-hashing.pool-size}") int poolSize,
+                                                          @Value("${security.password-hashing.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        // 큐가 가득 차면 호출 스레드에서 대신 실행하지 않고 즉시 거절
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(@Value("${image.thumbnail.pool-size}") int poolSize,
+                                                    @Value("${image.thumbnail.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        // 업로드 요청 스레드가 썸네일 생성을 떠안지 않도록 거절 (썸네일은 FAILED 처리)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor variantExecutor(@Value("${image.variant.pool-size}") int poolSize,
+                                                  @Value("${image.variant.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("variant-");
+        // 조회 요청 스레드가 축소본 생성을 떠안지 않도록 거절 (원본으로 응답)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // 몇 시간씩 걸릴 수 있는 정리 작업이 스케줄러 스레드를 붙잡지 않도록 분리 (실행 중이면 다음 실행은 거절)
+    @Bean
+    public ThreadPoolTaskExecutor orphanSweepExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("orphan-sweep-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+}
@@ -4,16 +4,27 @@ import com.jay.sapapi.security.filter.JWTCheckFilter;
 import com.jay.sapapi.security.handler.APILoginFailHandler;
 import com.jay.sapapi.security.handler.APILoginSuccessHandler;
 import com.jay.sapapi.security.handler.CustomAccessDeniedHandler;
+import com.jay.sapapi.security.crypto.PooledPasswordEncoder;
+import com.jay.sapapi.util.exception.CustomServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -36,9 +47,31 @@ public class CustomSecurityConfig {
     @Value("${spring.jwt.refresh-token.expiration}")
     private int refreshTokenExpiration;
 
+    @Value("${security.password-hashing.timeout}")
+    private long passwordHashingTimeout;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+                                           MeterRegistry meterRegistry) {
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor, passwordHashingTimeout, meterRegistry);
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider() {
+            @Override
+            public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+                try {
+                    return super.authenticate(authentication);
+                } catch (CustomServiceUnavailableException e) {
+                    // 해시 풀이 포화되면 로그인 실패 핸들러에서 503으로 응답하도록 인증 예외로 감쌈
+                    throw new AuthenticationServiceException(e.getMessage(), e);
+                }
+            }
+        };
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return provider;
     }
 
     @Bean
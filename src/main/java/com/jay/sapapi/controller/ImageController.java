@@ -1,7 +1,12 @@
 package com.jay.sapapi.controller;
 
+import com.jay.sapapi.controller.support.ImageResponseWriter;
 import com.jay.sapapi.dto.image.ImageDTO;
+import com.jay.sapapi.dto.image.ImageFileDTO;
+import com.jay.sapapi.dto.image.ImageType;
 import com.jay.sapapi.service.ImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
@@ -19,14 +24,54 @@ public class ImageController {
 
     private final ImageService imageService;
 
+    private final ImageResponseWriter imageResponseWriter;
+
     @GetMapping("/{fileName}")
-    public Map<String, String> viewFileGET(@PathVariable("fileName") String fileName) throws IOException {
+    public Map<String, String> viewFileGET(@PathVariable("fileName") String fileName,
+                                           @RequestParam(value = "w", required = false) Integer width,
+                                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (width != null) {
+            if (imageResponseWriter.checkNotModified(imageService.getImageVariantFile(fileName, width), request, response)) {
+                return null;
+            }
+            return imageService.viewImageVariant(fileName, width);
+        }
+        if (imageResponseWriter.checkNotModified(imageService.getImageFile(fileName), request, response)) {
+            return null;
+        }
         return imageService.viewImage(fileName);
     }
 
+    // imageType 을 생략하면 만들어진 썸네일 중 하나를 제공
     @GetMapping("/thumbnail/{fileName}")
-    public Map<String, String> viewThumbnailGET(@PathVariable("fileName") String fileName) throws IOException {
-        return imageService.viewImageThumbnail(fileName);
+    public Map<String, String> viewThumbnailGET(@PathVariable("fileName") String fileName,
+                                                @RequestParam(value = "imageType", required = false) ImageType imageType,
+                                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (imageResponseWriter.checkNotModified(imageService.getImageThumbnailFile(fileName, imageType), request, response)) {
+            return null;
+        }
+        return imageService.viewImageThumbnail(fileName, imageType);
+    }
+
+    @GetMapping("/thumbnail/{fileName}/status")
+    public Map<String, Object> getThumbnailStatus(@PathVariable("fileName") String fileName,
+                                                  @RequestParam(value = "imageType", required = false) ImageType imageType) {
+        return Map.of("message", "success", "data", Map.of("status", imageService.getThumbnailStatus(fileName, imageType)));
+    }
+
+    @GetMapping("/raw/{fileName}")
+    public void viewRawFileGET(@PathVariable("fileName") String fileName,
+                               @RequestParam(value = "w", required = false) Integer width,
+                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImageFileDTO file = width != null ? imageService.getImageVariantFile(fileName, width) : imageService.getImageFile(fileName);
+        imageResponseWriter.write(file, request, response);
+    }
+
+    @GetMapping("/raw/thumbnail/{fileName}")
+    public void viewRawThumbnailGET(@PathVariable("fileName") String fileName,
+                                    @RequestParam(value = "imageType", required = false) ImageType imageType,
+                                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+        imageResponseWriter.write(imageService.getImageThumbnailFile(fileName, imageType), request, response);
     }
 
     @PostMapping("/")
@@ -36,6 +81,16 @@ public class ImageController {
                 .body(Map.of("message", "registerSuccess", "data", Map.of("fileName", fileName)));
     }
 
+    // multipart 파싱 없이 요청 본문을 그대로 받아 저장 (저장 파일명은 실제 형식으로 정하므로 클라이언트 파일명은 받지 않음)
+    @PostMapping("/stream")
+    public ResponseEntity<?> registerStream(@RequestParam(value = "imageType", defaultValue = "POST_IMAGE") ImageType imageType,
+                                            HttpServletRequest request) throws IOException {
+        String savedName = imageService.registerImageStream(request.getInputStream(),
+                request.getContentType(), request.getContentLengthLong(), imageType);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Map.of("message", "registerSuccess", "data", Map.of("fileName", savedName)));
+    }
+
     @DeleteMapping("/{fileName}")
     public ResponseEntity<?> remove(@PathVariable("fileName") String fileName) {
         imageService.removeImage(fileName);
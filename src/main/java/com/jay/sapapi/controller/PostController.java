@@ -1,20 +1,33 @@
 package com.jay.sapapi.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
 import com.jay.sapapi.dto.post.request.PostCreateRequestDTO;
 import com.jay.sapapi.dto.post.request.PostModifyRequestDTO;
 import com.jay.sapapi.dto.post.response.PostResponseDTO;
+import com.jay.sapapi.security.dto.AuthenticatedMember;
 import com.jay.sapapi.service.CommentService;
+import com.jay.sapapi.service.PostLikeService;
 import com.jay.sapapi.service.PostService;
+import com.jay.sapapi.util.cache.CachedFeedPage;
+import com.jay.sapapi.util.cache.FeedPageCache;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,26 +35,77 @@ import java.util.Map;
 @RequestMapping("/api/posts")
 public class PostController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostService postService;
 
     private final CommentService commentService;
 
+    private final PostLikeService postLikeService;
+
+    private final FeedPageCache feedPageCache;
+
+    private final ObjectMapper objectMapper;
+
     @GetMapping("/{postId}")
-    public Map<String, Object> get(@PathVariable Long postId) {
-        postService.incrementViewCount(postId);
+    public Map<String, Object> get(@PathVariable Long postId,
+                                   @AuthenticationPrincipal AuthenticatedMember member,
+                                   HttpServletRequest request) {
         PostResponseDTO dto = postService.get(postId);
+        if (member != null) {
+            dto.setLikedByMe(!postLikeService.getLikedPostIds(member.getUserId(), List.of(postId)).isEmpty());
+        }
+        postService.incrementViewCount(postId);
+        postService.recordViewer(postId, resolveViewerKey(member, request));
         return Map.of("message", "success", "data", dto);
     }
 
     @GetMapping("/{postId}/comments")
-    public Map<String, Object> getCommentsByPost(@PathVariable Long postId) {
-        return Map.of("message", "success", "data", commentService.getCommentsByPostId(postId));
+    public Map<String, Object> getCommentsByPost(@PathVariable Long postId,
+                                                 @RequestParam(value = "cursor", required = false) Long cursor,
+                                                 @RequestParam(value = "size", defaultValue = "20") int size) {
+        return Map.of("message", "success", "data", commentService.getPageByPostId(postId, cursor, size));
     }
 
     @GetMapping("/")
-    public Map<String, Object> getAll() {
-        List<PostResponseDTO> result = postService.getList();
-        return Map.of("message", "success", "data", result);
+    public ResponseEntity<byte[]> getAll(@RequestParam(value = "cursor", required = false) Long cursor,
+                                         @RequestParam(value = "size", defaultValue = "10") int size,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                         @AuthenticationPrincipal AuthenticatedMember member)
+            throws JsonProcessingException {
+        // 대부분의 요청이 몰리는 첫 페이지만 캐시 (깊은 커서나 임의의 크기가 캐시를 밀어내지 않도록)
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CachedFeedPage page = cursor == null ? feedPageCache.get(pageSize) : null;
+        if (page == null) {
+            long generation = feedPageCache.currentGeneration();
+            CursorPageResponseDTO<PostResponseDTO> result = postService.getPage(cursor, pageSize);
+            List<Long> postIds = result.getItems().stream().map(PostResponseDTO::getId).toList();
+            page = CachedFeedPage.of(objectMapper.writeValueAsBytes(Map.of("message", "success", "data", result)), postIds);
+            if (cursor == null) {
+                feedPageCache.put(pageSize, generation, page);
+            }
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // 캐시된 페이지는 likedByMe가 모두 false이므로 좋아요한 게시글만 바이트 단위로 덮어씀
+        Set<Long> likedPostIds = member != null
+                ? postLikeService.getLikedPostIds(member.getUserId(), page.getPostIds())
+                : Set.of();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (!likedPostIds.isEmpty()) {
+            // 덮어쓴 본문은 요청마다 다르므로 압축도 요청마다 수행
+            byte[] personalized = page.personalize(likedPostIds);
+            return gzip
+                    ? builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(CachedFeedPage.gzip(personalized))
+                    : builder.body(personalized);
+        }
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(page.getGzip());
+        }
+        return builder.body(page.getJson());
     }
 
     @PostMapping("/")
@@ -65,4 +129,41 @@ public class PostController {
         return Map.of("message", "postDeleted");
     }
 
+    // gzip (없으면 *) 항목의 q 값이 0 보다 클 때만 압축 응답 (예: "gzip;q=0" 은 거부)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+    }
+
+    private String resolveViewerKey(AuthenticatedMember member, HttpServletRequest request) {
+        if (member != null) {
+            return "user:" + member.getUserId();
+        }
+        return "client:" + request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+    }
+
 }
@@ -26,22 +26,24 @@ public class PostLikeController {
     }
 
     @GetMapping("/")
-    public Map<String, Object> getHeartsByPost(@PathVariable Long postId) {
-        return Map.of("message", "success", "data", postLikeService.getHeartsByPost(postId));
+    public Map<String, Object> getLikersByPost(@PathVariable Long postId,
+                                               @RequestParam(value = "cursor", required = false) Long cursor,
+                                               @RequestParam(value = "size", defaultValue = "20") int size) {
+        return Map.of("message", "success", "data", postLikeService.getLikersByPost(postId, cursor, size));
     }
 
     @PostMapping("/users/{userId}")
     @PreAuthorize("#userId == authentication.principal.userId")
     public ResponseEntity<?> register(@PathVariable Long postId, @PathVariable Long userId) {
-        long heartId = postLikeService.register(postId, userId);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(Map.of("message", "registerSuccess", "data", Map.of("id", heartId)));
+        boolean created = postLikeService.register(postId, userId);
+        return ResponseEntity.status(created ? HttpStatus.CREATED : HttpStatus.OK)
+                .body(Map.of("message", "registerSuccess", "data", Map.of("changed", created)));
     }
 
     @DeleteMapping("/users/{userId}")
     public Map<String, Object> remove(@PathVariable Long postId, @PathVariable Long userId) {
-        postLikeService.remove(postId, userId);
-        return Map.of("message", "removeSuccess");
+        boolean removed = postLikeService.remove(postId, userId);
+        return Map.of("message", "removeSuccess", "data", Map.of("changed", removed));
     }
 
 }
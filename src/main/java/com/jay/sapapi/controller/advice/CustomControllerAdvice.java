@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.jay.sapapi.util.exception.CustomAuthenticationException;
 import com.jay.sapapi.util.exception.CustomServiceException;
+import com.jay.sapapi.util.exception.CustomServiceUnavailableException;
 import com.jay.sapapi.util.exception.CustomValidationException;
 
 import java.util.Map;
@@ -56,6 +57,13 @@ public class CustomControllerAdvice {
                 .body(Map.of("message", "internalServerError"));
     }
 
+    @ExceptionHandler(CustomServiceUnavailableException.class)
+    public ResponseEntity<?> handleServiceUnavailableException(CustomServiceUnavailableException e) {
+        log.warn("Service Unavailable: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("message", "serviceUnavailable"));
+    }
+
     @ExceptionHandler(CustomValidationException.class)
     public ResponseEntity<?> handleValidationException(CustomValidationException e) {
         log.info("Validation Exception: {}", e.getMessage());
@@ -11,6 +11,9 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"post", "commenter"})
+@Table(indexes = {
+        @Index(columnList = "post_id, id")
+})
 public class Comment extends TimeStampedEntity {
 
     @Id
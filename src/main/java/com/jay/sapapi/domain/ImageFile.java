@@ -0,0 +1,32 @@
+package com.jay.sapapi.domain;
+
+import com.jay.sapapi.domain.common.TimeStampedEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 내용 해시(SHA-256)로 저장된 이미지 파일과 그 참조 수, 업로드 시 확인한 메타데이터 (이전 행은 비어 있음)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ImageFile extends TimeStampedEntity {
+
+    @Id
+    @Column(length = 80)
+    private String fileName;
+
+    @Column(nullable = false)
+    private long refCount;
+
+    @Column(length = 100)
+    private String contentType;
+
+    private Long contentLength;
+
+    private Integer width;
+
+    private Integer height;
+
+}
@@ -16,6 +16,9 @@ import java.util.List;
 @NoArgsConstructor
 @Getter
 @ToString(exclude = {"posts", "comments", "postLikes"})
+@Table(indexes = {
+        @Index(columnList = "profile_image_url")
+})
 public class Member extends TimeStampedEntity {
 
     @Id
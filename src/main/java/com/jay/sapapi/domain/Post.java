@@ -14,6 +14,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"writer", "comments" ,"postLikes"})
+@Table(indexes = {
+        @Index(columnList = "post_image_url")
+})
 public class Post extends TimeStampedEntity {
 
     @Id
@@ -36,6 +39,18 @@ public class Post extends TimeStampedEntity {
     @Builder.Default
     private Long viewCount = 0L;
 
+    @Builder.Default
+    @Column(nullable = false)
+    private Long commentCount = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long likeCount = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long uniqueViewerCount = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private Member writer;
@@ -12,6 +12,8 @@ import lombok.*;
 @ToString(exclude = {"post", "member"})
 @Table(uniqueConstraints = {
         @UniqueConstraint(columnNames = {"post_id", "user_id"})
+}, indexes = {
+        @Index(columnList = "post_id, id")
 })
 public class PostLike extends TimeStampedEntity {
 
@@ -0,0 +1,33 @@
+package com.jay.sapapi.domain;
+
+import com.jay.sapapi.domain.common.TimeStampedEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = {"post", "registers"})
+public class PostViewerSketch extends TimeStampedEntity {
+
+    @Id
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Column(nullable = false, length = 4096)
+    private byte[] registers;
+
+    public void changeRegisters(byte[] registers) {
+        this.registers = registers;
+    }
+
+}
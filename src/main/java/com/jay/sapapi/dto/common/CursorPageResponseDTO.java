@@ -0,0 +1,20 @@
+package com.jay.sapapi.dto.common;
+
+import lombok.Getter;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+
+    private List<T> items;
+
+    private Long nextCursor;
+
+    private boolean hasNext;
+
+}
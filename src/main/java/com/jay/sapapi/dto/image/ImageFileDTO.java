@@ -0,0 +1,32 @@
+package com.jay.sapapi.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Path;
+
+@Getter
+@ToString(exclude = "content")
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class ImageFileDTO {
+
+    private Path path;
+
+    private String contentType;
+
+    private long contentLength;
+
+    private long lastModified;
+
+    private String etag;
+
+    // 요청한 파일 그대로인지 (대체 파일이면 내용이 바뀔 수 있으므로 false)
+    private boolean immutable;
+
+    // 캐시된 경우의 파일 내용 (없으면 path 에서 읽음)
+    private byte[] content;
+
+}
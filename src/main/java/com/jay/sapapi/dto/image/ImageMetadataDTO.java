@@ -0,0 +1,26 @@
+package com.jay.sapapi.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+// 업로드 시 기록한 이미지 정보 (조회 시 파일 시스템을 확인하지 않고 사용)
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+public class ImageMetadataDTO {
+
+    private String fileName;
+
+    private String contentType;
+
+    private long contentLength;
+
+    // 이미지가 아니거나 읽을 수 없으면 null
+    private Integer width, height;
+
+    private long lastModified;
+
+}
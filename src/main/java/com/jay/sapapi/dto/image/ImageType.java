@@ -5,16 +5,37 @@ import com.jay.sapapi.dto.image.strategy.ProfileImageThumbnailStrategy;
 import com.jay.sapapi.dto.image.strategy.ThumbnailStrategy;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 public enum ImageType {
 
-    POST_IMAGE(new PostImageThumbnailStrategy()),
-    PROFILE_IMAGE(new ProfileImageThumbnailStrategy());
+    POST_IMAGE(new PostImageThumbnailStrategy(), "s_", null),
+    // 종류별 접두어 도입 전에 만들어진 프로필 썸네일은 s_ 로 저장되어 있음
+    PROFILE_IMAGE(new ProfileImageThumbnailStrategy(), "sp_", "s_");
 
     private final ThumbnailStrategy thumbnailStrategy;
 
-    ImageType(ThumbnailStrategy thumbnailStrategy) {
+    // 같은 내용이 종류별로 다른 썸네일을 가지므로 종류마다 다른 접두어 사용
+    private final String thumbnailPrefix;
+
+    private final String legacyThumbnailPrefix;
+
+    ImageType(ThumbnailStrategy thumbnailStrategy, String thumbnailPrefix, String legacyThumbnailPrefix) {
         this.thumbnailStrategy = thumbnailStrategy;
+        this.thumbnailPrefix = thumbnailPrefix;
+        this.legacyThumbnailPrefix = legacyThumbnailPrefix;
+    }
+
+    public String thumbnailName(String fileName) {
+        return thumbnailPrefix + fileName;
+    }
+
+    // 조회 시 확인할 썸네일 파일명 (현재 이름, 이전 이름 순)
+    public List<String> thumbnailLookupNames(String fileName) {
+        return legacyThumbnailPrefix != null
+                ? List.of(thumbnailName(fileName), legacyThumbnailPrefix + fileName)
+                : List.of(thumbnailName(fileName));
     }
 
 }
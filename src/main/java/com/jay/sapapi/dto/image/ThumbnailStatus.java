@@ -0,0 +1,7 @@
+package com.jay.sapapi.dto.image;
+
+public enum ThumbnailStatus {
+
+    PENDING, READY, FAILED;
+
+}
@@ -1,18 +1,26 @@
 package com.jay.sapapi.dto.image.strategy;
 
+import com.jay.sapapi.util.SubsampledImageReader;
 import net.coobird.thumbnailator.Thumbnails;
-import net.coobird.thumbnailator.geometry.Positions;
 
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.nio.file.Path;
 
 public class PostImageThumbnailStrategy implements ThumbnailStrategy {
 
+    private static final int SIZE = 800;
+
     @Override
     public void createThumbnail(Path sourcePath, Path thumbnailPath) throws IOException {
-        Thumbnails.of(sourcePath.toFile())
-                .sourceRegion(Positions.CENTER, 800, 800)
-                .size(800, 800)
+        // 가운데 800x800 영역만 디코딩
+        BufferedImage region = SubsampledImageReader.read(sourcePath,
+                (width, height) -> new Rectangle((width - SIZE) / 2, (height - SIZE) / 2, SIZE, SIZE),
+                SIZE, SIZE);
+
+        Thumbnails.of(region)
+                .size(SIZE, SIZE)
                 .toFile(thumbnailPath.toFile());
     }
 
@@ -1,37 +1,27 @@
 package com.jay.sapapi.dto.image.strategy;
 
+import com.jay.sapapi.util.SubsampledImageReader;
 import net.coobird.thumbnailator.Thumbnails;
-import net.coobird.thumbnailator.geometry.Positions;
 
-import javax.imageio.ImageIO;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.nio.file.Path;
 
 public class ProfileImageThumbnailStrategy implements ThumbnailStrategy {
 
+    private static final int SIZE = 200;
+
     @Override
     public void createThumbnail(Path sourcePath, Path thumbnailPath) throws IOException {
-        BufferedImage originalImage = ImageIO.read(sourcePath.toFile());
-        int width = originalImage.getWidth();
-        int height = originalImage.getHeight();
-
-        int resizedWidth, resizedHeight;
-        if (width < height) {
-            resizedWidth = 200;
-            resizedHeight = (int) ((double) height / width * 200);
-        } else {
-            resizedWidth = (int) ((double) width / height * 200);
-            resizedHeight = 200;
-        }
-
-        BufferedImage resizedImage = Thumbnails.of(originalImage)
-                .size(resizedWidth, resizedHeight)
-                .asBufferedImage();
-
-        Thumbnails.of(resizedImage)
-                .sourceRegion(Positions.CENTER, 200, 200)
-                .size(200, 200)
+        // 짧은 변 기준 가운데 정사각형만, 200px 에 가까운 배율로 솎아서 디코딩
+        BufferedImage square = SubsampledImageReader.read(sourcePath, (width, height) -> {
+            int side = Math.min(width, height);
+            return new Rectangle((width - side) / 2, (height - side) / 2, side, side);
+        }, SIZE, SIZE);
+
+        Thumbnails.of(square)
+                .size(SIZE, SIZE)
                 .toFile(thumbnailPath.toFile());
     }
 
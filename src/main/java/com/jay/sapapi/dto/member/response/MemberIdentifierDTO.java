@@ -0,0 +1,16 @@
+package com.jay.sapapi.dto.member.response;
+
+import lombok.Getter;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class MemberIdentifierDTO {
+
+    private Long id;
+
+    private String email, nickname;
+
+}
@@ -0,0 +1,18 @@
+package com.jay.sapapi.dto.member.response;
+
+import lombok.Getter;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class MemberSummaryDTO {
+
+    private Long id;
+
+    private String email, nickname;
+
+    private String profileImageUrl;
+
+}
@@ -3,6 +3,7 @@ package com.jay.sapapi.dto.post.response;
 import lombok.Getter;
 import lombok.Builder;
 import lombok.AllArgsConstructor;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 
@@ -15,16 +16,22 @@ public class PostResponseDTO {
 
     private String title, content;
 
-    private Long viewCount;
+    private Long viewCount, uniqueViewerCount;
 
     private int commentCount, likeCount;
 
     private String postImageUrl;
 
+    // 업로드 시 기록된 이미지 크기 (클라이언트가 내려받기 전에 자리를 잡을 수 있도록, 알 수 없으면 null)
+    private Integer postImageWidth, postImageHeight;
+
     private String writerNickname, writerEmail;
 
     private String writerProfileImageUrl;
 
     private LocalDateTime createdAt, modifiedAt;
 
+    @Setter
+    private boolean likedByMe;
+
 }
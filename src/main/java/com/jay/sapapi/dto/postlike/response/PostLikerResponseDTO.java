@@ -0,0 +1,20 @@
+package com.jay.sapapi.dto.postlike.response;
+
+import lombok.Getter;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostLikerResponseDTO {
+
+    private Long likeId, userId;
+
+    private String nickname, profileImageUrl;
+
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,90 @@
+package com.jay.sapapi.migration;
+
+import com.jay.sapapi.util.CustomFileUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// 업로드 경로 바로 아래(이전 평평한 구조)의 파일을 샤딩된 디렉터리로 옮기는 일회성 작업
+// 조회는 두 위치를 모두 확인하므로 서비스 중에 백그라운드로 실행
+@Component
+@Log4j2
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.upload.shard-migration.enabled", havingValue = "true")
+public class UploadShardMigration implements ApplicationRunner {
+
+    private static final String DEFAULT_IMAGE = "default.png";
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+
+    private final CustomFileUtil fileUtil;
+
+    @Value("${image.upload.shard-migration.parallelism}")
+    private int parallelism;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofPlatform()
+                .name("upload-shard-migration")
+                .daemon(true)
+                .start(this::migrate);
+    }
+
+    public void migrate() {
+        // 수백만 개의 경로가 큐에 쌓이지 않도록 큐를 제한하고, 가득 차면 목록을 읽는 스레드가 직접 옮김
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * QUEUE_CAPACITY_PER_THREAD), new ThreadPoolExecutor.CallerRunsPolicy());
+        AtomicLong moved = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long startedAt = System.currentTimeMillis();
+
+        try (Stream<Path> files = Files.list(fileUtil.getRoot())) {
+            files.filter(Files::isRegularFile)
+                    .filter(path -> isMigrationTarget(path.getFileName().toString()))
+                    .forEach(path -> executor.execute(() -> {
+                        try {
+                            if (fileUtil.moveToShard(path)) {
+                                moved.incrementAndGet();
+                            } else {
+                                skipped.incrementAndGet();
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            failed.incrementAndGet();
+                            log.warn("Shard migration failed: {} ({})", path, e.getMessage());
+                        }
+                    }));
+        } catch (IOException e) {
+            log.error("Shard migration aborted: {}", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Shard migration finished: moved={}, skipped={}, failed={}, elapsed={}ms",
+                moved.get(), skipped.get(), failed.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 기본 이미지와 업로드 중인 임시 파일은 그대로 둠
+    private boolean isMigrationTarget(String fileName) {
+        return !fileName.equals(DEFAULT_IMAGE) && !fileName.startsWith("tmp_");
+    }
+
+}
@@ -1,7 +1,7 @@
 package com.jay.sapapi.repository;
 
 import com.jay.sapapi.domain.Comment;
-import com.jay.sapapi.domain.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +17,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "WHERE c.id = :commentId")
     Optional<Comment> getCommentByCommentId(@Param("commentId") Long commentId);
 
-    List<Comment> getCommentsByPostOrderById(Post post);
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.post.id = :postId " +
+            "ORDER BY c.id")
+    List<Comment> getCommentsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.post.id = :postId " +
+            "AND c.id > :cursor " +
+            "ORDER BY c.id")
+    List<Comment> getCommentsAfter(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
 
 }
@@ -0,0 +1,7 @@
+package com.jay.sapapi.repository;
+
+import com.jay.sapapi.domain.ImageFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImageFileRepository extends JpaRepository<ImageFile, String>, ImageFileRepositoryCustom {
+}
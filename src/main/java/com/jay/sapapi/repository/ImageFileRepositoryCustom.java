@@ -0,0 +1,17 @@
+package com.jay.sapapi.repository;
+
+import java.time.LocalDateTime;
+
+public interface ImageFileRepositoryCustom {
+
+    boolean acquire(String fileName);
+
+    long release(String fileName);
+
+    boolean deleteIfIdle(String fileName, LocalDateTime cutoff);
+
+    void saveMetadata(String fileName, String contentType, long contentLength, Integer width, Integer height);
+
+    boolean hasMetadata(String fileName);
+
+}
@@ -0,0 +1,101 @@
+package com.jay.sapapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ImageFileRepositoryCustomImpl implements ImageFileRepositoryCustom {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE image_file SET ref_count = ref_count + 1, modified_at = ? WHERE file_name = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO image_file (file_name, ref_count, created_at, modified_at) VALUES (?, 1, ?, ?)";
+
+    private static final String DECREMENT_SQL =
+            "UPDATE image_file SET ref_count = ref_count - 1, modified_at = ? WHERE file_name = ? AND ref_count > 0";
+
+    private static final String SELECT_REF_COUNT_SQL =
+            "SELECT ref_count FROM image_file WHERE file_name = ?";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM image_file WHERE file_name = ? AND ref_count = 0";
+
+    private static final String DELETE_IDLE_SQL =
+            "DELETE FROM image_file WHERE file_name = ? AND modified_at < ?";
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM image_file WHERE file_name = ?";
+
+    private static final String UPDATE_METADATA_SQL =
+            "UPDATE image_file SET content_type = ?, content_length = ?, width = ?, height = ? WHERE file_name = ?";
+
+    private static final String COUNT_METADATA_SQL =
+            "SELECT COUNT(*) FROM image_file WHERE file_name = ? AND content_type IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 참조 수를 1 올리고, 처음 등록된 파일이면 true
+    @Override
+    @Transactional
+    public boolean acquire(String fileName) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(INCREMENT_SQL, now, fileName) > 0) {
+            return false;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, fileName, now, now) > 0;
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 먼저 등록한 경우
+            jdbcTemplate.update(INCREMENT_SQL, now, fileName);
+            return false;
+        }
+    }
+
+    // 참조 수를 1 내리고 남은 참조 수를 반환 (0 이면 행도 삭제, 등록되지 않은 파일이면 -1)
+    @Override
+    @Transactional
+    public long release(String fileName) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(DECREMENT_SQL, now, fileName);
+        List<Long> refCounts = jdbcTemplate.queryForList(SELECT_REF_COUNT_SQL, Long.class, fileName);
+        if (refCounts.isEmpty()) {
+            return -1;
+        }
+        long remaining = refCounts.get(0);
+        if (remaining == 0) {
+            jdbcTemplate.update(DELETE_SQL, fileName);
+        }
+        return remaining;
+    }
+
+    // 기준 시각 이후 등록(중복 업로드 포함)된 적이 없으면 행을 지우고 true (행이 없어도 true)
+    @Override
+    @Transactional
+    public boolean deleteIfIdle(String fileName, LocalDateTime cutoff) {
+        if (jdbcTemplate.update(DELETE_IDLE_SQL, fileName, Timestamp.valueOf(cutoff)) > 0) {
+            return true;
+        }
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, fileName);
+        return count == null || count == 0;
+    }
+
+    @Override
+    @Transactional
+    public void saveMetadata(String fileName, String contentType, long contentLength, Integer width, Integer height) {
+        jdbcTemplate.update(UPDATE_METADATA_SQL, contentType, contentLength, width, height, fileName);
+    }
+
+    @Override
+    public boolean hasMetadata(String fileName) {
+        Long count = jdbcTemplate.queryForObject(COUNT_METADATA_SQL, Long.class, fileName);
+        return count != null && count > 0;
+    }
+
+}
@@ -1,7 +1,14 @@
 package com.jay.sapapi.repository;
 
 import com.jay.sapapi.domain.Member;
+import com.jay.sapapi.dto.member.response.MemberIdentifierDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -11,4 +18,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Member findByEmail(String email);
 
+    @Query("SELECT new com.jay.sapapi.dto.member.response.MemberIdentifierDTO(m.id, m.email, m.nickname) " +
+            "FROM Member m " +
+            "WHERE m.id > :lastId " +
+            "ORDER BY m.id")
+    List<MemberIdentifierDTO> getIdentifiersAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT DISTINCT m.profileImageUrl FROM Member m " +
+            "WHERE m.profileImageUrl IN :imageUrls")
+    List<String> getReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
 }
@@ -2,14 +2,20 @@ package com.jay.sapapi.repository;
 
 import com.jay.sapapi.domain.PostLike;
 import com.jay.sapapi.domain.Post;
+import com.jay.sapapi.dto.postlike.response.PostLikeResponseDTO;
+import com.jay.sapapi.dto.postlike.response.PostLikerResponseDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+public interface PostLikeRepository extends JpaRepository<PostLike, Long>, PostLikeRepositoryCustom {
 
     @Query("SELECT h FROM PostLike h " +
             "JOIN FETCH h.post " +
@@ -20,4 +26,37 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     List<PostLike> getPostLikesByPostOrderByCreatedAt(Post post);
 
+    @Query("SELECT new com.jay.sapapi.dto.postlike.response.PostLikeResponseDTO(h.id, h.post.id, h.member.id, h.createdAt) " +
+            "FROM PostLike h " +
+            "WHERE h.post.id = :postId " +
+            "ORDER BY h.id")
+    List<PostLikeResponseDTO> getPostLikesByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT new com.jay.sapapi.dto.postlike.response.PostLikerResponseDTO(h.id, m.id, m.nickname, m.profileImageUrl, h.createdAt) " +
+            "FROM PostLike h JOIN h.member m " +
+            "WHERE h.post.id = :postId " +
+            "ORDER BY h.id")
+    List<PostLikerResponseDTO> getLikers(@Param("postId") Long postId, Pageable pageable);
+
+    // 커서 행이 삭제되어도 이어서 조회되도록 ID 값만으로 비교 (ID 는 등록 순서)
+    @Query("SELECT new com.jay.sapapi.dto.postlike.response.PostLikerResponseDTO(h.id, m.id, m.nickname, m.profileImageUrl, h.createdAt) " +
+            "FROM PostLike h JOIN h.member m " +
+            "WHERE h.post.id = :postId " +
+            "AND h.id > :cursor " +
+            "ORDER BY h.id")
+    List<PostLikerResponseDTO> getLikersAfter(@Param("postId") Long postId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT h.post.id FROM PostLike h WHERE h.member.id = :userId")
+    List<Long> getLikedPostIds(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT h.post.id FROM PostLike h " +
+            "WHERE h.member.id = :userId " +
+            "AND h.post.id IN :postIds")
+    List<Long> getLikedPostIdsIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostLike h WHERE h.post.id = :postId AND h.member.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
 }
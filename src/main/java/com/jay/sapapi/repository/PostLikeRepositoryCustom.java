@@ -0,0 +1,7 @@
+package com.jay.sapapi.repository;
+
+public interface PostLikeRepositoryCustom {
+
+    boolean insertIfAbsent(Long postId, Long userId);
+
+}
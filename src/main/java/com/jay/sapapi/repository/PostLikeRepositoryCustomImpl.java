@@ -0,0 +1,50 @@
+package com.jay.sapapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+@RequiredArgsConstructor
+public class PostLikeRepositoryCustomImpl implements PostLikeRepositoryCustom {
+
+    private static final String INSERT_POST_LIKE_SQL =
+            "INSERT INTO post_like (post_id, user_id, created_at, modified_at) VALUES (?, ?, ?, ?)";
+
+    private static final String POST_EXISTS_SQL = "SELECT 1 FROM post WHERE id = ?";
+
+    private static final String MEMBER_EXISTS_SQL = "SELECT 1 FROM member WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(Long postId, Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return jdbcTemplate.update(INSERT_POST_LIKE_SQL, postId, userId, now, now) > 0;
+        } catch (DuplicateKeyException e) {
+            // (post_id, user_id) 유니크 제약에 걸리면 이미 좋아요한 상태
+            return false;
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 제약 위반은 어느 쪽이 없는지 확인해 구분하고, 그 외 위반은 그대로 던짐
+            if (!exists(POST_EXISTS_SQL, postId)) {
+                throw new NoSuchElementException("postNotFound");
+            }
+            if (!exists(MEMBER_EXISTS_SQL, userId)) {
+                throw new NoSuchElementException("userNotFound");
+            }
+            throw e;
+        }
+    }
+
+    private boolean exists(String sql, Long id) {
+        return !jdbcTemplate.queryForList(sql, Integer.class, id).isEmpty();
+    }
+
+}
@@ -1,30 +1,74 @@
 package com.jay.sapapi.repository;
 
 import com.jay.sapapi.domain.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query("SELECT p, w, COUNT(DISTINCT c), COUNT(DISTINCT h) " +
-            "FROM Post p " +
-            "LEFT JOIN p.writer w " +
-            "LEFT JOIN Comment c ON c.post = p " +
-            "LEFT JOIN PostLike h ON h.post = p " +
-            "WHERE p.id = :postId " +
-            "GROUP BY p, w")
-    Object getPostByPostId(@Param("postId") Long postId);
-
-    @Query("SELECT p, w, COUNT(DISTINCT c), COUNT(DISTINCT h) " +
-            "FROM Post p " +
-            "LEFT JOIN p.writer w " +
-            "LEFT JOIN Comment c ON c.post = p " +
-            "LEFT JOIN PostLike h ON h.post = p " +
-            "GROUP BY p, w " +
+    @Query("SELECT p FROM Post p " +
+            "JOIN FETCH p.writer " +
+            "WHERE p.id = :postId")
+    Optional<Post> getPostByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT p FROM Post p " +
+            "JOIN FETCH p.writer " +
+            "ORDER BY p.id DESC")
+    List<Post> getAllPosts();
+
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.id < :cursor " +
             "ORDER BY p.id DESC")
-    List<Object> getAllPosts();
+    List<Post> getPostsBefore(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT DISTINCT p.postImageUrl FROM Post p " +
+            "WHERE p.postImageUrl IN :imageUrls")
+    List<String> getReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
+    @Query("SELECT p.id FROM Post p " +
+            "WHERE p.id > :lastId " +
+            "ORDER BY p.id")
+    List<Long> getPostIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    int decrementCommentCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    int incrementLikeCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET " +
+            "p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post.id = p.id), " +
+            "p.likeCount = (SELECT COUNT(h) FROM PostLike h WHERE h.post.id = p.id) " +
+            "WHERE p.id BETWEEN :fromId AND :toId")
+    int recalculateCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.uniqueViewerCount = :count WHERE p.id = :postId")
+    int updateUniqueViewerCount(@Param("postId") Long postId, @Param("count") Long count);
 
 }
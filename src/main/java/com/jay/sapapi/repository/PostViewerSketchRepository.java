@@ -0,0 +1,7 @@
+package com.jay.sapapi.repository;
+
+import com.jay.sapapi.domain.PostViewerSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostViewerSketchRepository extends JpaRepository<PostViewerSketch, Long> {
+}
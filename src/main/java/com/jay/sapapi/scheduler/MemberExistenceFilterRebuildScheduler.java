@@ -0,0 +1,56 @@
+package com.jay.sapapi.scheduler;
+
+import com.jay.sapapi.dto.member.response.MemberIdentifierDTO;
+import com.jay.sapapi.service.MemberService;
+import com.jay.sapapi.util.cache.MemberExistenceFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class MemberExistenceFilterRebuildScheduler {
+
+    private final MemberService memberService;
+
+    private final MemberExistenceFilter memberExistenceFilter;
+
+    @Value("${member.existence-filter.chunk-size}")
+    private int chunkSize;
+
+    // 기동 직후 한 번 구성하고, 이후 주기적으로 새로 만들어 삭제된 값을 걸러냄
+    @Scheduled(fixedDelayString = "${member.existence-filter.rebuild-interval}")
+    public synchronized void rebuild() {
+        long lastId = 0L;
+        long loaded = 0L;
+        List<MemberIdentifierDTO> identifiers;
+
+        try {
+            memberExistenceFilter.beginRebuild(memberService.getMemberCount());
+            do {
+                identifiers = memberService.getIdentifiersAfter(lastId, chunkSize);
+                for (MemberIdentifierDTO identifier : identifiers) {
+                    memberExistenceFilter.addToRebuild(identifier.getEmail(), identifier.getNickname());
+                }
+                if (!identifiers.isEmpty()) {
+                    lastId = identifiers.get(identifiers.size() - 1).getId();
+                    loaded += identifiers.size();
+                }
+            } while (identifiers.size() == chunkSize);
+            memberExistenceFilter.completeRebuild();
+        } catch (DataAccessException e) {
+            log.error("Member existence filter rebuild failed: {}", e.getMessage());
+            memberExistenceFilter.abortRebuild();
+            return;
+        }
+
+        log.info("Member existence filter rebuilt: {} members", loaded);
+    }
+
+}
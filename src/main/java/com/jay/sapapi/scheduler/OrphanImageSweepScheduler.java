@@ -0,0 +1,150 @@
+package com.jay.sapapi.scheduler;
+
+import com.jay.sapapi.service.ImageService;
+import com.jay.sapapi.util.CustomFileUtil;
+import com.jay.sapapi.util.concurrent.IntervalRateLimiter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 게시글/프로필 어디에서도 쓰이지 않는 업로드 파일을 유예 기간이 지난 뒤 삭제
+@Component
+@Log4j2
+public class OrphanImageSweepScheduler {
+
+    private static final Pattern CONTENT_HASH_NAME = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,10})?");
+
+    private static final Pattern DERIVED_PREFIX = Pattern.compile("^(sp?_|w[0-9]+_)");
+
+    private static final String TEMP_PREFIX = "tmp_";
+
+    private final ImageService imageService;
+
+    private final CustomFileUtil fileUtil;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${image.orphan-sweep.grace-period}")
+    private long gracePeriod;
+
+    @Value("${image.orphan-sweep.batch-size}")
+    private int batchSize;
+
+    @Value("${image.orphan-sweep.max-scans-per-second}")
+    private int maxScansPerSecond;
+
+    @Value("${image.orphan-sweep.max-deletes-per-second}")
+    private int maxDeletesPerSecond;
+
+    public OrphanImageSweepScheduler(ImageService imageService, CustomFileUtil fileUtil,
+                                     @Qualifier("orphanSweepExecutor") ThreadPoolTaskExecutor executor) {
+        this.imageService = imageService;
+        this.fileUtil = fileUtil;
+        this.executor = executor;
+    }
+
+    // 공용 스케줄러 스레드에서는 전용 스레드로 넘기기만 함 (조회수/스케치 반영 등 다른 작업이 밀리지 않도록)
+    @Scheduled(cron = "${image.orphan-sweep.cron}")
+    public void scheduleSweep() {
+        try {
+            executor.execute(this::sweep);
+        } catch (TaskRejectedException e) {
+            log.warn("Orphan image sweep still running, skipped");
+        }
+    }
+
+    public synchronized void sweep() {
+        Instant cutoff = Instant.now().minusMillis(gracePeriod);
+        IntervalRateLimiter scanLimiter = new IntervalRateLimiter(maxScansPerSecond);
+        IntervalRateLimiter deleteLimiter = new IntervalRateLimiter(maxDeletesPerSecond);
+        Set<String> batch = new LinkedHashSet<>();
+        long scanned = 0L;
+        long deleted = 0L;
+
+        // 디렉터리 전체를 목록으로 만들지 않고 하나씩 훑으며 일정 개수마다 참조 여부를 한 번에 조회
+        try (Stream<Path> paths = Files.walk(fileUtil.getRoot())) {
+            Iterator<Path> iterator = paths.iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                scanLimiter.acquire();
+                if (!Files.isRegularFile(path) || !isOlderThan(path, cutoff)) {
+                    continue;
+                }
+                scanned++;
+
+                String name = path.getFileName().toString();
+                // 중단된 업로드, 썸네일 생성이 남긴 임시 파일
+                if (name.startsWith(TEMP_PREFIX)) {
+                    deleteLimiter.acquire();
+                    if (Files.deleteIfExists(path)) {
+                        deleted++;
+                    }
+                    continue;
+                }
+
+                // 썸네일, 축소본은 원본 기준으로 판단 (내용 해시 이름이 아닌 이전 파일은 건드리지 않음)
+                String originalName = DERIVED_PREFIX.matcher(name).replaceFirst("");
+                if (!CONTENT_HASH_NAME.matcher(originalName).matches()) {
+                    continue;
+                }
+                batch.add(originalName);
+                if (batch.size() >= batchSize) {
+                    deleted += sweepBatch(batch, cutoff, deleteLimiter);
+                }
+            }
+            deleted += sweepBatch(batch, cutoff, deleteLimiter);
+        } catch (IOException | UncheckedIOException | DataAccessException e) {
+            log.error("Orphan image sweep failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Orphan image sweep interrupted");
+        }
+
+        log.info("Orphan image sweep finished: scanned={}, deleted={}", scanned, deleted);
+    }
+
+    private long sweepBatch(Set<String> batch, Instant cutoff, IntervalRateLimiter deleteLimiter)
+            throws InterruptedException {
+        long deleted = 0L;
+        Set<String> referenced = imageService.getReferencedImages(batch);
+        for (String fileName : batch) {
+            if (referenced.contains(fileName)) {
+                continue;
+            }
+            deleteLimiter.acquire();
+            if (imageService.removeOrphanImage(fileName, cutoff)) {
+                deleted++;
+                log.debug("Orphan image deleted: {}", fileName);
+            }
+        }
+        batch.clear();
+        return deleted;
+    }
+
+    private boolean isOlderThan(Path path, Instant cutoff) throws IOException {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (NoSuchFileException e) {
+            // 훑는 사이 삭제된 파일
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.jay.sapapi.scheduler;
+
+import com.jay.sapapi.service.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class PostCounterRepairScheduler {
+
+    private final PostService postService;
+
+    @Value("${post.counter.repair.chunk-size}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${post.counter.repair.cron}")
+    public void repairCounters() {
+        long lastId = 0L;
+        int repaired = 0;
+        List<Long> postIds;
+
+        // 게시글 ID 구간 단위로 나누어 각 구간을 별도의 트랜잭션으로 재계산
+        do {
+            postIds = postService.getPostIdsAfter(lastId, chunkSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            Long fromId = postIds.get(0);
+            Long toId = postIds.get(postIds.size() - 1);
+            repaired += postService.repairCounters(fromId, toId);
+            lastId = toId;
+        } while (postIds.size() == chunkSize);
+
+        log.info("Post counters recalculated: {} rows", repaired);
+    }
+
+}
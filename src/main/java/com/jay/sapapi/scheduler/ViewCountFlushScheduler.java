@@ -0,0 +1,55 @@
+package com.jay.sapapi.scheduler;
+
+import com.jay.sapapi.util.counter.ViewCountBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private static final String UPDATE_VIEW_COUNT_SQL = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval}")
+    public synchronized void flush() {
+        SortedMap<Long, Long> deltas = viewCountBuffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+
+        // 일부만 반영된 채 실패하면 되돌린 뒤 전체를 다시 넣어야 두 번 더해지지 않음
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT_SQL, batchArgs));
+            log.debug("View counts flushed for {} posts", deltas.size());
+        } catch (RuntimeException e) {
+            // 커넥션을 얻지 못한 경우(TransactionException) 등 DB 예외가 아니어도 꺼낸 값을 되돌림
+            log.error("View count flush failed: {}", e.getMessage());
+            viewCountBuffer.restore(deltas);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.jay.sapapi.scheduler;
+
+import com.jay.sapapi.service.PostService;
+import com.jay.sapapi.util.counter.ViewerSketchBuffer;
+import com.jay.sapapi.util.sketch.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ViewerSketchFlushScheduler {
+
+    private final ViewerSketchBuffer viewerSketchBuffer;
+
+    private final PostService postService;
+
+    @Scheduled(fixedDelayString = "${post.viewer-sketch.flush-interval}")
+    public synchronized void flush() {
+        SortedMap<Long, HyperLogLog> sketches = viewerSketchBuffer.drain();
+        for (Map.Entry<Long, HyperLogLog> entry : sketches.entrySet()) {
+            try {
+                postService.mergeViewerSketch(entry.getKey(), entry.getValue());
+            } catch (DataAccessException e) {
+                log.error("Viewer sketch flush failed for post {}: {}", entry.getKey(), e.getMessage());
+                viewerSketchBuffer.restore(entry.getKey(), entry.getValue());
+            }
+        }
+        if (!sketches.isEmpty()) {
+            log.debug("Viewer sketches flushed for {} posts", sketches.size());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+}
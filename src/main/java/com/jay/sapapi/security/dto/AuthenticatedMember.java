@@ -0,0 +1,52 @@
+package com.jay.sapapi.security.dto;
+
+import com.jay.sapapi.domain.MemberRole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// JWT claims 로부터 만드는 불변 principal (SpEL 의 principal.userId 를 위해 getter 제공)
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class AuthenticatedMember {
+
+    private static final Map<MemberRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(MemberRole.class);
+
+    static {
+        for (MemberRole role : MemberRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        }
+    }
+
+    private final Long userId;
+
+    private final String email;
+
+    private final String nickname;
+
+    private final String profileImageUrl;
+
+    private final MemberRole memberRole;
+
+    public static AuthenticatedMember fromClaims(Map<String, Object> claims) {
+        Object id = claims.get("id");
+        return new AuthenticatedMember(
+                id instanceof Number number ? number.longValue() : Long.parseLong(id.toString()),
+                (String) claims.get("email"),
+                (String) claims.get("nickname"),
+                (String) claims.get("profileImageUrl"),
+                MemberRole.valueOf((String) claims.get("role")));
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(memberRole);
+    }
+
+}
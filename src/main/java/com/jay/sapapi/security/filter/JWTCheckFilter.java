@@ -1,11 +1,10 @@
 package com.jay.sapapi.security.filter;
 
 import com.google.gson.Gson;
-import com.jay.sapapi.domain.Member;
-import com.jay.sapapi.domain.MemberRole;
-import com.jay.sapapi.security.dto.CustomUserDetails;
+import com.jay.sapapi.security.dto.AuthenticatedMember;
 import com.jay.sapapi.util.JWTUtil;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.log4j.Log4j2;
@@ -14,85 +13,72 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 @Log4j2
 public class JWTCheckFilter extends OncePerRequestFilter {
 
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) {
+    private static final String TOKEN_PREFIX = "Bearer ";
 
-        if (request.getMethod().equals("OPTIONS")) {
-            return true;
-        }
+    private static final PublicRouteMatcher PUBLIC_ROUTES = PublicRouteMatcher.builder()
+            .exact("GET", "/")
+            .exact("GET", "/docs")
+            .prefix("GET", "/api/users/")
+            .prefix("GET", "/api/images/")
+            .exact("POST", "/api/users/")
+            .prefix("POST", "/api/auth/")
+            .exact("POST", "/api/images/")
+            .exact("POST", "/api/images/stream")
+            .exact("PUT", "/api/auth/tokens")
+            .build();
 
-        String path = request.getRequestURI();
-        if (request.getMethod().equals("GET")) {
-            if (path.equals("/") || path.equals("/docs") || path.startsWith("/api/users/") || path.startsWith("/api/images/")) {
-                return true;
-            }
-        }
+    private static final byte[] INVALID_TOKEN_BODY =
+            new Gson().toJson(Map.of("message", "invalidToken")).getBytes(StandardCharsets.UTF_8);
 
-        if (request.getMethod().equals("POST")) {
-            if (path.equals("/api/users/") || path.startsWith("/api/auth/") || path.equals("/api/images/")) {
-                return true;
-            }
-        }
-
-        if (request.getMethod().equals("PUT")) {
-            if (path.equals("/api/auth/tokens")) {
-                return true;
-            }
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("OPTIONS".equals(method)) {
+            return true;
         }
-
-        return false;
+        return PUBLIC_ROUTES.matches(method, request.getRequestURI());
     }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws IOException {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
         String authHeaderStr = request.getHeader("Authorization");
+        if (authHeaderStr == null || authHeaderStr.length() <= TOKEN_PREFIX.length()) {
+            log.error("JWT Error: missing bearer token");
+            writeInvalidToken(response);
+            return;
+        }
+
+        AuthenticatedMember principal;
         try {
             // Bearer accessToken...
-            String accessToken = authHeaderStr.substring(7);
-            Map<String, Object> claims = JWTUtil.validateToken(accessToken);
-            log.info("JWT claims: " + claims);
-
-            long userId = Long.parseLong(claims.get("id").toString());
-            String email = (String) claims.get("email");
-            String nickname = (String) claims.get("nickname");
-            String profileImageUrl = (String) claims.get("profileImageUrl");
-            String role = (String) claims.get("role");
-            MemberRole memberRole = MemberRole.valueOf(role);
-
-            Member member = Member.builder()
-                    .id(userId)
-                    .email(email)
-                    .nickname(nickname)
-                    .profileImageUrl(profileImageUrl)
-                    .memberRole(memberRole)
-                    .build();
-            log.info("Member: " + member);
-
-            CustomUserDetails customUserDetails = new CustomUserDetails(member);
-            log.info("CustomUserDetails: " + customUserDetails);
-
-            UsernamePasswordAuthenticationToken authenticationToken
-                    = new UsernamePasswordAuthenticationToken(customUserDetails, "", customUserDetails.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            Map<String, Object> claims = JWTUtil.validateToken(authHeaderStr.substring(TOKEN_PREFIX.length()));
+            principal = AuthenticatedMember.fromClaims(claims);
+        } catch (Exception e) {
+            log.error("JWT Error: {}", e.getMessage());
+            writeInvalidToken(response);
+            return;
+        }
+        log.debug("JWT principal: {}", principal);
 
-            filterChain.doFilter(request, response);
-        } catch(Exception e) {
-            log.error("JWT Error: " + e.getMessage());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
 
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json");
+        filterChain.doFilter(request, response);
+    }
 
-            Gson gson = new Gson();
-            String jsonResponse = gson.toJson(Map.of("message", "invalidToken"));
-            PrintWriter printWriter = response.getWriter();
-            printWriter.write(jsonResponse);
-            printWriter.flush();
-        }
+    private void writeInvalidToken(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json");
+        response.setContentLength(INVALID_TOKEN_BODY.length);
+        response.getOutputStream().write(INVALID_TOKEN_BODY);
+        response.getOutputStream().flush();
     }
+
 }
@@ -0,0 +1,73 @@
+package com.jay.sapapi.security.filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// HTTP 메서드별로 미리 구성한 공개 경로 테이블 (조회 시 할당 없음)
+final class PublicRouteMatcher {
+
+    private final Map<String, Routes> routesByMethod;
+
+    private PublicRouteMatcher(Map<String, Routes> routesByMethod) {
+        this.routesByMethod = routesByMethod;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    boolean matches(String method, String path) {
+        Routes routes = routesByMethod.get(method);
+        if (routes == null || path == null) {
+            return false;
+        }
+        if (routes.exact().contains(path)) {
+            return true;
+        }
+        for (String prefix : routes.prefixes()) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Routes(Set<String> exact, String[] prefixes) {
+    }
+
+    static final class Builder {
+
+        private final Map<String, Set<String>> exact = new HashMap<>();
+
+        private final Map<String, List<String>> prefixes = new HashMap<>();
+
+        Builder exact(String method, String path) {
+            exact.computeIfAbsent(method, key -> new HashSet<>()).add(path);
+            return this;
+        }
+
+        Builder prefix(String method, String prefix) {
+            prefixes.computeIfAbsent(method, key -> new ArrayList<>()).add(prefix);
+            return this;
+        }
+
+        PublicRouteMatcher build() {
+            Set<String> methods = new HashSet<>(exact.keySet());
+            methods.addAll(prefixes.keySet());
+
+            Map<String, Routes> routesByMethod = new HashMap<>();
+            for (String method : methods) {
+                routesByMethod.put(method, new Routes(
+                        Set.copyOf(exact.getOrDefault(method, Set.of())),
+                        prefixes.getOrDefault(method, List.of()).toArray(String[]::new)));
+            }
+            return new PublicRouteMatcher(Map.copyOf(routesByMethod));
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.jay.sapapi.security.handler;
 
 import com.google.gson.Gson;
+import com.jay.sapapi.util.exception.CustomServiceUnavailableException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -20,11 +21,12 @@ public class APILoginFailHandler implements AuthenticationFailureHandler {
 
         log.info("Login Exception: " + exception);
 
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        boolean unavailable = exception.getCause() instanceof CustomServiceUnavailableException;
+        response.setStatus(unavailable ? HttpServletResponse.SC_SERVICE_UNAVAILABLE : HttpServletResponse.SC_UNAUTHORIZED);
         response.setContentType("application/json");
 
         Gson gson = new Gson();
-        String jsonStr = gson.toJson(Map.of("message", "invalidCredentials"));
+        String jsonStr = gson.toJson(Map.of("message", unavailable ? "serviceUnavailable" : "invalidCredentials"));
 
         PrintWriter printWriter = response.getWriter();
         printWriter.println(jsonStr);
@@ -1,6 +1,8 @@
 package com.jay.sapapi.service;
 
 import com.jay.sapapi.domain.Comment;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
+import com.jay.sapapi.dto.member.response.MemberSummaryDTO;
 import com.jay.sapapi.dto.comment.request.CommentCreateRequestDTO;
 import com.jay.sapapi.dto.comment.request.CommentModifyRequestDTO;
 import com.jay.sapapi.dto.comment.response.CommentResponseDTO;
@@ -17,6 +19,9 @@ public interface CommentService {
     @Transactional(readOnly = true)
     List<CommentResponseDTO> getCommentsByPostId(Long postId);
 
+    @Transactional(readOnly = true)
+    CursorPageResponseDTO<CommentResponseDTO> getPageByPostId(Long postId, Long cursor, int size);
+
     Long register(CommentCreateRequestDTO commentDTO);
 
     void modify(Long commentId, CommentModifyRequestDTO commentDTO);
@@ -25,15 +30,15 @@ public interface CommentService {
 
     Comment dtoToEntity(CommentCreateRequestDTO commentDTO);
 
-    default CommentResponseDTO entityToDTO(Comment comment) {
+    default CommentResponseDTO entityToDTO(Comment comment, MemberSummaryDTO commenter) {
         return CommentResponseDTO.builder()
                 .id(comment.getId())
                 .postId(comment.getPost().getId())
                 .content(comment.getContent())
-                .userId(comment.getCommenter().getId())
-                .commenterEmail(comment.getCommenter().getEmail())
-                .commenterNickname(comment.getCommenter().getNickname())
-                .commenterProfileImageUrl(comment.getCommenter().getProfileImageUrl())
+                .userId(commenter.getId())
+                .commenterEmail(commenter.getEmail())
+                .commenterNickname(commenter.getNickname())
+                .commenterProfileImageUrl(commenter.getProfileImageUrl())
                 .createdAt(comment.getCreatedAt())
                 .modifiedAt(comment.getModifiedAt())
                 .build();
@@ -6,16 +6,22 @@ import com.jay.sapapi.domain.Post;
 import com.jay.sapapi.dto.comment.request.CommentCreateRequestDTO;
 import com.jay.sapapi.dto.comment.request.CommentModifyRequestDTO;
 import com.jay.sapapi.dto.comment.response.CommentResponseDTO;
-import com.jay.sapapi.dto.post.response.PostResponseDTO;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
+import com.jay.sapapi.dto.member.response.MemberSummaryDTO;
 import com.jay.sapapi.repository.CommentRepository;
+import com.jay.sapapi.repository.PostRepository;
+import com.jay.sapapi.util.cache.FeedPageCache;
 import com.jay.sapapi.util.exception.CustomValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,27 +29,54 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
 
-    private final PostService postService;
+    private final PostRepository postRepository;
+
+    private final FeedPageCache feedPageCache;
+
+    private final MemberService memberService;
 
     @Override
     public CommentResponseDTO get(Long commentId) {
-        Optional<Comment> result = commentRepository.getCommentByCommentId(commentId);
+        Optional<Comment> result = commentRepository.findById(commentId);
         Comment comment = result.orElseThrow(() -> new NoSuchElementException("commentNotFound"));
-        return entityToDTO(comment);
+        return toDTOList(List.of(comment)).get(0);
     }
 
     @Override
     public List<CommentResponseDTO> getCommentsByPostId(Long postId) {
-        PostResponseDTO postResponseDTO = postService.get(postId);
-        List<Comment> result = commentRepository.getCommentsByPostOrderById(postService.responseDtoToEntity(postResponseDTO));
-        return result.stream().map(this::entityToDTO).collect(Collectors.toList());
+        checkPostExists(postId);
+        List<Comment> result = commentRepository.getCommentsByPostId(postId);
+        return toDTOList(result);
+    }
+
+    @Override
+    public CursorPageResponseDTO<CommentResponseDTO> getPageByPostId(Long postId, Long cursor, int size) {
+        checkPostExists(postId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long after = cursor != null ? cursor : 0L;
+
+        List<Comment> commentList = commentRepository.getCommentsAfter(postId, after, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = commentList.size() > pageSize;
+
+        List<CommentResponseDTO> items = toDTOList(hasNext ? commentList.subList(0, pageSize) : commentList);
+
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return CursorPageResponseDTO.<CommentResponseDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
     public Long register(CommentCreateRequestDTO commentDTO) {
         Comment result = commentRepository.save(dtoToEntity(commentDTO));
+        postRepository.incrementCommentCount(commentDTO.getPostId());
+        feedPageCache.invalidate();
         return result.getId();
     }
 
@@ -57,10 +90,11 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public void remove(Long commentId) {
-        if (!commentRepository.existsById(commentId)) {
-            throw new NoSuchElementException("commentNotFound");
-        }
-        commentRepository.deleteById(commentId);
+        Optional<Comment> result = commentRepository.findById(commentId);
+        Comment comment = result.orElseThrow(() -> new NoSuchElementException("commentNotFound"));
+        commentRepository.delete(comment);
+        postRepository.decrementCommentCount(comment.getPost().getId());
+        feedPageCache.invalidate();
     }
 
     @Override
@@ -72,4 +106,18 @@ public class CommentServiceImpl implements CommentService {
                 .build();
     }
 
+    private List<CommentResponseDTO> toDTOList(List<Comment> commentList) {
+        Set<Long> commenterIds = commentList.stream().map(comment -> comment.getCommenter().getId()).collect(Collectors.toSet());
+        Map<Long, MemberSummaryDTO> commenters = memberService.getSummaries(commenterIds);
+        return commentList.stream()
+                .map(comment -> entityToDTO(comment, commenters.get(comment.getCommenter().getId())))
+                .toList();
+    }
+
+    private void checkPostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new NoSuchElementException("postNotFound");
+        }
+    }
+
 }
@@ -1,18 +1,44 @@
 package com.jay.sapapi.service;
 
 import com.jay.sapapi.dto.image.ImageDTO;
+import com.jay.sapapi.dto.image.ImageFileDTO;
+import com.jay.sapapi.dto.image.ImageMetadataDTO;
+import com.jay.sapapi.dto.image.ImageType;
+import com.jay.sapapi.dto.image.ThumbnailStatus;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 public interface ImageService {
 
     Map<String, String> viewImage(String fileName) throws IOException;
 
-    Map<String, String> viewImageThumbnail(String fileName) throws IOException;
+    Map<String, String> viewImageThumbnail(String fileName, ImageType imageType) throws IOException;
+
+    ImageFileDTO getImageFile(String fileName) throws IOException;
+
+    Map<String, ImageMetadataDTO> getImageMetadata(Collection<String> fileNames);
+
+    ImageFileDTO getImageThumbnailFile(String fileName, ImageType imageType) throws IOException;
+
+    Map<String, String> viewImageVariant(String fileName, int width) throws IOException;
+
+    ImageFileDTO getImageVariantFile(String fileName, int width) throws IOException;
+
+    ThumbnailStatus getThumbnailStatus(String fileName, ImageType imageType);
 
     String registerImage(ImageDTO imageDTO);
 
+    String registerImageStream(InputStream in, String contentType, long contentLength, ImageType imageType);
+
     void removeImage(String fileName);
 
+    Set<String> getReferencedImages(Collection<String> fileNames);
+
+    boolean removeOrphanImage(String fileName, Instant cutoff);
+
 }
@@ -1,26 +1,97 @@
 package com.jay.sapapi.service;
 
 import com.jay.sapapi.dto.image.ImageDTO;
+import com.jay.sapapi.domain.ImageFile;
+import com.jay.sapapi.dto.image.ImageFileDTO;
+import com.jay.sapapi.dto.image.ImageMetadataDTO;
+import com.jay.sapapi.dto.image.ImageType;
+import com.jay.sapapi.dto.image.ThumbnailStatus;
+import com.jay.sapapi.repository.ImageFileRepository;
+import com.jay.sapapi.repository.MemberRepository;
+import com.jay.sapapi.repository.PostRepository;
 import com.jay.sapapi.util.CustomFileUtil;
+import com.jay.sapapi.util.ImageVariantGenerator;
+import com.jay.sapapi.util.SubsampledImageReader;
+import com.jay.sapapi.util.ThumbnailGenerator;
+import com.jay.sapapi.util.cache.ImageMetadataCache;
+import com.jay.sapapi.util.cache.ThumbnailCache;
+import com.jay.sapapi.util.exception.CustomValidationException;
+import com.jay.sapapi.util.concurrent.StripedLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.awt.Dimension;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.regex.Pattern;
 
 @Service
 @Log4j2
 @RequiredArgsConstructor
 public class ImageServiceImpl implements ImageService {
 
+    private static final Pattern CONTENT_HASH_NAME = Pattern.compile("(sp?_|w[0-9]+_)?[0-9a-f]{64}(\\.[a-z0-9]{1,10})?");
+
     private final CustomFileUtil fileUtil;
 
+    @Value("${image.upload.max-bytes}")
+    private long maxUploadBytes;
+
+    @Value("${image.upload.allowed-types}")
+    private String[] allowedContentTypes;
+
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    private final ImageFileRepository imageFileRepository;
+
+    private final ThumbnailCache thumbnailCache;
+
+    private final ImageMetadataCache imageMetadataCache;
+
+    private final ImageVariantGenerator variantGenerator;
+
+    private final PostRepository postRepository;
+
+    private final MemberRepository memberRepository;
+
+    // 같은 내용의 파일에 대한 등록/삭제를 직렬화
+    private final StripedLock fileLocks = new StripedLock(64);
+
     @Override
     public Map<String, String> viewImage(String fileName) throws IOException {
+        ImageMetadataDTO metadata = findMetadata(fileName);
+        if (metadata != null) {
+            try {
+                byte[] fileContent = Files.readAllBytes(fileUtil.getShardedPath(fileName));
+                return Map.of("fileContent", Base64.getEncoder().encodeToString(fileContent));
+            } catch (NoSuchFileException e) {
+                // deleteFile 을 거치지 않고 파일이 사라진 경우 기존 방식(기본 이미지 대체)으로 응답
+                invalidateMissingFile(fileName);
+            }
+        }
+
         Resource fileResource = fileUtil.getFile(fileName).getBody();
         assert fileResource != null;
         byte[] fileContent = fileUtil.getFileContent(fileResource);
@@ -29,36 +100,344 @@ public class ImageServiceImpl implements ImageService {
     }
 
     @Override
-    public Map<String, String> viewImageThumbnail(String fileName) throws IOException {
-        String thumbnailName = "s_" + fileName;
-        Resource fileResource = fileUtil.getFile(thumbnailName).getBody();
+    public Map<String, String> viewImageThumbnail(String fileName, ImageType imageType) throws IOException {
+        ImageFileDTO cached = getCachedThumbnail(fileName, imageType);
+        if (cached != null) {
+            return Map.of("fileContent", Base64.getEncoder().encodeToString(cached.getContent()));
+        }
+
+        // 썸네일이 아직 없으면 (생성 중이거나 실패) 원본으로 대체
+        Resource fileResource = fileUtil.getFile(fileName).getBody();
         assert fileResource != null;
         byte[] fileContent = fileUtil.getFileContent(fileResource);
         String base64FileContent = Base64.getEncoder().encodeToString(fileContent);
         return Map.of("fileContent", base64FileContent);
     }
 
+    @Override
+    public ImageFileDTO getImageFile(String fileName) throws IOException {
+        // 메타데이터가 기록된 파일은 형식 판별, 크기/시각 조회 없이 응답 (sendfile 로 넘기기 전에 존재만 확인)
+        ImageMetadataDTO metadata = findMetadata(fileName);
+        if (metadata != null) {
+            ImageFileDTO file = toImageFile(metadata);
+            if (Files.isRegularFile(file.getPath())) {
+                return file;
+            }
+            invalidateMissingFile(fileName);
+        }
+        return toImageFile(fileUtil.resolveFile(fileName), fileName);
+    }
+
+    // 업로드 시 기록한 메타데이터를 캐시에서, 없으면 한 번의 조회로 채움 (기록 이전 파일은 제외)
+    @Override
+    public Map<String, ImageMetadataDTO> getImageMetadata(Collection<String> fileNames) {
+        Map<String, ImageMetadataDTO> metadata = new HashMap<>();
+        Set<String> misses = new HashSet<>();
+        for (String fileName : fileNames) {
+            if (fileName == null) {
+                continue;
+            }
+            ImageMetadataDTO cached = imageMetadataCache.get(fileName);
+            if (cached != null) {
+                metadata.put(fileName, cached);
+            } else if (CONTENT_HASH_NAME.matcher(fileName).matches() && !imageMetadataCache.isKnownMiss(fileName)) {
+                misses.add(fileName);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long generation = imageMetadataCache.currentGeneration();
+            for (ImageFile imageFile : imageFileRepository.findAllById(misses)) {
+                if (imageFile.getContentType() == null) {
+                    continue;
+                }
+                ImageMetadataDTO loaded = toMetadataDTO(imageFile);
+                imageMetadataCache.put(generation, loaded);
+                metadata.put(loaded.getFileName(), loaded);
+            }
+            misses.stream()
+                    .filter(fileName -> !metadata.containsKey(fileName))
+                    .forEach(fileName -> imageMetadataCache.putMiss(generation, fileName));
+        }
+        return metadata;
+    }
+
+    @Override
+    public Map<String, String> viewImageVariant(String fileName, int width) throws IOException {
+        ImageFileDTO file = getImageVariantFile(fileName, width);
+        return Map.of("fileContent", Base64.getEncoder().encodeToString(Files.readAllBytes(file.getPath())));
+    }
+
+    @Override
+    public ImageFileDTO getImageVariantFile(String fileName, int width) throws IOException {
+        String servedName = variantGenerator.getVariant(fileName, width);
+        if (servedName == null) {
+            // 축소본이 준비되기 전에는 원본을 주되 나중에 바뀌므로 캐시하지 않도록 함
+            return toImageFile(fileUtil.resolveFile(fileName), null);
+        }
+        // 원본이 요청 너비보다 좁아 원본을 그대로 주는 경우도 내용이 바뀌지 않음
+        String requestedName = servedName.equals(fileName) ? fileName : ImageVariantGenerator.variantName(fileName, width);
+        return toImageFile(fileUtil.resolveFile(servedName), requestedName);
+    }
+
+    @Override
+    public ImageFileDTO getImageThumbnailFile(String fileName, ImageType imageType) throws IOException {
+        ImageFileDTO cached = getCachedThumbnail(fileName, imageType);
+        if (cached != null) {
+            // 종류를 지정하지 않은 요청은 나중에 다른 종류의 썸네일이 생기면 응답이 바뀔 수 있음
+            return imageType != null ? cached : cached.toBuilder().immutable(false).build();
+        }
+        String requestedName = imageType != null ? imageType.thumbnailName(fileName) : null;
+        return toImageFile(fileUtil.resolveFile(fileName), requestedName);
+    }
+
+    @Override
+    public ThumbnailStatus getThumbnailStatus(String fileName, ImageType imageType) {
+        return thumbnailGenerator.getStatus(fileName, imageType);
+    }
+
     @Override
     public String registerImage(ImageDTO imageDTO) {
-        imageDTO.setFileName(saveFileAndGetFileName(imageDTO));
+        MultipartFile file = imageDTO.getFile();
+        CustomFileUtil.HashedFile hashedFile = fileUtil.saveTempFile(file);
+        String fileName = register(hashedFile, file.getContentType(), imageDTO.getImageType());
+        imageDTO.setFileName(fileName);
+        return fileName;
+    }
 
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+    @Override
+    public String registerImageStream(InputStream in, String contentType, long contentLength, ImageType imageType) {
+        String mediaType = normalizeContentType(contentType);
+        if (mediaType == null || !Arrays.asList(allowedContentTypes).contains(mediaType)) {
+            throw new CustomValidationException("unsupportedContentType");
+        }
+        // 길이를 알 수 있으면 읽기 전에 거절
+        if (contentLength > maxUploadBytes) {
+            throw new CustomValidationException("fileTooLarge");
         }
 
-        return imageDTO.getFileName();
+        CustomFileUtil.HashedFile hashedFile = fileUtil.saveTempStream(in, mediaType, maxUploadBytes);
+        return register(hashedFile, mediaType, imageType);
     }
 
     @Override
     public void removeImage(String fileName) {
-        fileUtil.deleteFile(fileName);
+        Lock lock = fileLocks.get(fileName);
+        lock.lock();
+        try {
+            // 마지막 참조가 사라질 때만 파일을 삭제 (등록 기록이 없는 기존 파일은 바로 삭제)
+            long remaining = imageFileRepository.release(fileName);
+            if (remaining <= 0) {
+                fileUtil.deleteFile(fileName);
+                variantGenerator.deleteVariants(fileName);
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
-    private String saveFileAndGetFileName(ImageDTO imageDTO) {
-        MultipartFile file = imageDTO.getFile();
-        return fileUtil.saveFile(file, imageDTO.getImageType());
+    // 게시글 이미지나 프로필 이미지로 쓰이는 파일명만 반환
+    @Override
+    public Set<String> getReferencedImages(Collection<String> fileNames) {
+        Set<String> referenced = new HashSet<>();
+        if (fileNames.isEmpty()) {
+            return referenced;
+        }
+        referenced.addAll(postRepository.getReferencedImageUrls(fileNames));
+        referenced.addAll(memberRepository.getReferencedImageUrls(fileNames));
+        return referenced;
+    }
+
+    // 기준 시각 이후 올라오거나 다시 등록된 적이 없고, 여전히 참조되지 않는 파일만 썸네일, 축소본과 함께 삭제
+    @Override
+    public boolean removeOrphanImage(String fileName, Instant cutoff) {
+        Lock lock = fileLocks.get(fileName);
+        lock.lock();
+        try {
+            // 일괄 확인 이후 게시글/프로필에 연결되었을 수 있으므로 잠금 안에서 다시 확인
+            if (!getReferencedImages(List.of(fileName)).isEmpty()) {
+                return false;
+            }
+            Path path = fileUtil.getPath(fileName);
+            if (Files.isRegularFile(path) && !Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                return false;
+            }
+            if (!imageFileRepository.deleteIfIdle(fileName, LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()))) {
+                return false;
+            }
+            fileUtil.deleteFile(fileName);
+            variantGenerator.deleteVariants(fileName);
+            return true;
+        } catch (IOException e) {
+            log.warn("Orphan image not deleted: {} ({})", fileName, e.getMessage());
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String register(CustomFileUtil.HashedFile hashedFile, String contentType, ImageType imageType) {
+        String fileName = hashedFile.fileName();
+
+        boolean stored;
+        Lock lock = fileLocks.get(fileName);
+        lock.lock();
+        try {
+            stored = storeIfAbsent(hashedFile);
+            // 기록 이전에 저장된 파일과 같은 내용이 다시 올라오면 그때 메타데이터를 채움
+            if (stored || !imageFileRepository.hasMetadata(fileName)) {
+                saveMetadata(hashedFile);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // 같은 내용이 이미 있으면 쓰기를 생략하고, 썸네일은 해당 종류의 것이 없을 때만 생성
+        if (contentType != null && contentType.startsWith("image")
+                && (stored || thumbnailGenerator.isMissing(fileName, imageType))) {
+            thumbnailGenerator.submit(fileName, imageType);
+        }
+        return fileName;
+    }
+
+    private String normalizeContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return (mediaType.getType() + "/" + mediaType.getSubtype()).toLowerCase(Locale.ROOT);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+
+    private boolean storeIfAbsent(CustomFileUtil.HashedFile hashedFile) {
+        String fileName = hashedFile.fileName();
+        boolean created = imageFileRepository.acquire(fileName);
+        if (!created && fileUtil.exists(fileName)) {
+            fileUtil.deleteTempFile(hashedFile.tempPath());
+            return false;
+        }
+
+        try {
+            fileUtil.moveTempFile(hashedFile.tempPath(), fileName);
+        } catch (RuntimeException e) {
+            imageFileRepository.release(fileName);
+            fileUtil.deleteTempFile(hashedFile.tempPath());
+            throw e;
+        }
+        return true;
+    }
+
+    // 조회 때 파일 시스템을 확인하지 않도록 저장 시점에 형식과 크기를 기록 (실패하면 기존 방식으로 조회)
+    private void saveMetadata(CustomFileUtil.HashedFile hashedFile) {
+        String fileName = hashedFile.fileName();
+        Path path = fileUtil.getShardedPath(fileName);
+        try {
+            String contentType = fileUtil.detectContentType(path);
+            Dimension size = contentType != null ? SubsampledImageReader.readSize(path) : null;
+            if (contentType == null) {
+                contentType = Files.probeContentType(path);
+            }
+            imageFileRepository.saveMetadata(fileName,
+                    contentType != null ? contentType : "application/octet-stream",
+                    hashedFile.contentLength(),
+                    size != null ? size.width : null,
+                    size != null ? size.height : null);
+            imageMetadataCache.invalidate(fileName);
+        } catch (IOException e) {
+            log.warn("Image metadata not saved: {} ({})", fileName, e.getMessage());
+        }
+    }
+
+    private void invalidateMissingFile(String fileName) {
+        log.warn("Image file missing despite recorded metadata: {}", fileName);
+        imageMetadataCache.invalidate(fileName);
+    }
+
+    private ImageMetadataDTO findMetadata(String fileName) {
+        return getImageMetadata(List.of(fileName)).get(fileName);
+    }
+
+    private ImageMetadataDTO toMetadataDTO(ImageFile imageFile) {
+        return ImageMetadataDTO.builder()
+                .fileName(imageFile.getFileName())
+                .contentType(imageFile.getContentType())
+                .contentLength(imageFile.getContentLength())
+                .width(imageFile.getWidth())
+                .height(imageFile.getHeight())
+                .lastModified(imageFile.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .build();
+    }
+
+    private ImageFileDTO toImageFile(ImageMetadataDTO metadata) {
+        return ImageFileDTO.builder()
+                .path(fileUtil.getShardedPath(metadata.getFileName()))
+                .contentType(metadata.getContentType())
+                .contentLength(metadata.getContentLength())
+                .lastModified(metadata.getLastModified())
+                .etag(etagOf(metadata.getFileName(), metadata.getContentLength(), metadata.getLastModified()))
+                .immutable(true)
+                .build();
+    }
+
+    // 종류를 지정하지 않으면 만들어진 썸네일 중 앞선 종류의 것을 반환 (없으면 null)
+    private ImageFileDTO getCachedThumbnail(String fileName, ImageType imageType) throws IOException {
+        for (ImageType type : ThumbnailGenerator.typesOf(imageType)) {
+            for (String thumbnailName : type.thumbnailLookupNames(fileName)) {
+                ImageFileDTO file = getCachedThumbnail(thumbnailName);
+                if (file != null) {
+                    return file;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 생성이 끝난 썸네일만 캐시 (원본으로 대체되는 동안에는 캐시하지 않음)
+    private ImageFileDTO getCachedThumbnail(String thumbnailName) throws IOException {
+        ImageFileDTO cached = thumbnailCache.get(thumbnailName);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = thumbnailCache.currentGeneration();
+        if (!fileUtil.exists(thumbnailName)) {
+            return null;
+        }
+        Path path = fileUtil.getPath(thumbnailName);
+        ImageFileDTO file = toImageFile(path, thumbnailName, Files.readAllBytes(path));
+        thumbnailCache.put(thumbnailName, generation, file);
+        return file;
+    }
+
+    private ImageFileDTO toImageFile(Path path, String requestedName) throws IOException {
+        return toImageFile(path, requestedName, null);
+    }
+
+    private ImageFileDTO toImageFile(Path path, String requestedName, byte[] content) throws IOException {
+        String contentType = Files.probeContentType(path);
+        String servedName = path.getFileName().toString();
+        long contentLength = content != null ? content.length : Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        return ImageFileDTO.builder()
+                .path(path)
+                .contentType(contentType != null ? contentType : "application/octet-stream")
+                .contentLength(contentLength)
+                .lastModified(lastModified)
+                .etag(etagOf(servedName, contentLength, lastModified))
+                .immutable(servedName.equals(requestedName))
+                .content(content)
+                .build();
+    }
+
+    // 내용 해시로 저장된 파일(과 그 썸네일, 축소본)은 이름 자체가 내용 식별자, 그 외에는 수정 시각과 크기로 식별
+    private String etagOf(String servedName, long contentLength, long lastModified) {
+        if (CONTENT_HASH_NAME.matcher(servedName).matches()) {
+            return "\"" + servedName + "\"";
+        }
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(contentLength) + "\"";
     }
 
 }
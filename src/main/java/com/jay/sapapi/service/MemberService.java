@@ -3,9 +3,16 @@ package com.jay.sapapi.service;
 import com.jay.sapapi.domain.Member;
 import com.jay.sapapi.dto.member.request.MemberModifyRequestDTO;
 import com.jay.sapapi.dto.member.request.MemberSignupRequestDTO;
+import com.jay.sapapi.dto.member.response.MemberIdentifierDTO;
 import com.jay.sapapi.dto.member.response.MemberResponseDTO;
+import com.jay.sapapi.dto.member.response.MemberSummaryDTO;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 @Transactional
 public interface MemberService {
 
@@ -18,18 +25,29 @@ public interface MemberService {
     @Transactional(readOnly = true)
     boolean existsByNickname(String nickname);
 
+    @Transactional(readOnly = true)
+    Map<Long, MemberSummaryDTO> getSummaries(Collection<Long> userIds);
+
+    @Transactional(readOnly = true)
+    long getMemberCount();
+
+    @Transactional(readOnly = true)
+    List<MemberIdentifierDTO> getIdentifiersAfter(Long lastId, int size);
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     Long register(MemberSignupRequestDTO memberSignupRequestDTO);
 
     void modify(Long userId, MemberModifyRequestDTO memberModifyRequestDTO);
 
     void remove(Long userId);
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void checkPassword(Long userId, String password);
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     void changePassword(Long userId, String newPassword);
 
-    Member dtoToEntity(MemberSignupRequestDTO dto);
+    Member dtoToEntity(MemberSignupRequestDTO dto, String encodedPassword);
 
     default MemberResponseDTO entityToDTO(Member member) {
         return MemberResponseDTO.builder()
@@ -43,4 +61,13 @@ public interface MemberService {
                 .build();
     }
 
+    default MemberSummaryDTO entityToSummaryDTO(Member member) {
+        return MemberSummaryDTO.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .profileImageUrl(member.getProfileImageUrl())
+                .build();
+    }
+
 }
@@ -4,15 +4,28 @@ import com.jay.sapapi.domain.Member;
 import com.jay.sapapi.domain.MemberRole;
 import com.jay.sapapi.dto.member.request.MemberModifyRequestDTO;
 import com.jay.sapapi.dto.member.request.MemberSignupRequestDTO;
+import com.jay.sapapi.dto.member.response.MemberIdentifierDTO;
 import com.jay.sapapi.dto.member.response.MemberResponseDTO;
+import com.jay.sapapi.dto.member.response.MemberSummaryDTO;
 import com.jay.sapapi.repository.MemberRepository;
+import com.jay.sapapi.util.cache.FeedPageCache;
+import com.jay.sapapi.util.cache.MemberExistenceFilter;
+import com.jay.sapapi.util.cache.MemberSummaryCache;
 import com.jay.sapapi.util.exception.CustomValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 @Service
 @Log4j2
@@ -23,6 +36,14 @@ public class MemberServiceImpl implements MemberService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final TransactionTemplate transactionTemplate;
+
+    private final FeedPageCache feedPageCache;
+
+    private final MemberExistenceFilter memberExistenceFilter;
+
+    private final MemberSummaryCache memberSummaryCache;
+
     @Override
     public MemberResponseDTO get(Long userId) {
         Member member = memberRepository.findById(userId)
@@ -32,27 +53,66 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public boolean existsByEmail(String email) {
-        return memberRepository.existsByEmail(email);
+        return memberExistenceFilter.mightContainEmail(email) && memberRepository.existsByEmail(email);
     }
 
     @Override
     public boolean existsByNickname(String nickname) {
-        return memberRepository.existsByNickname(nickname);
+        return memberExistenceFilter.mightContainNickname(nickname) && memberRepository.existsByNickname(nickname);
+    }
+
+    @Override
+    public Map<Long, MemberSummaryDTO> getSummaries(Collection<Long> userIds) {
+        Map<Long, MemberSummaryDTO> summaries = new HashMap<>();
+        Set<Long> misses = new HashSet<>();
+        for (Long userId : userIds) {
+            MemberSummaryDTO summary = memberSummaryCache.get(userId);
+            if (summary != null) {
+                summaries.put(userId, summary);
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long generation = memberSummaryCache.currentGeneration();
+            for (Member member : memberRepository.findAllById(misses)) {
+                MemberSummaryDTO summary = entityToSummaryDTO(member);
+                memberSummaryCache.put(generation, summary);
+                summaries.put(member.getId(), summary);
+            }
+        }
+        return summaries;
+    }
+
+    @Override
+    public long getMemberCount() {
+        return memberRepository.count();
+    }
+
+    @Override
+    public List<MemberIdentifierDTO> getIdentifiersAfter(Long lastId, int size) {
+        return memberRepository.getIdentifiersAfter(lastId, PageRequest.of(0, size));
     }
 
     @Override
     public Long register(MemberSignupRequestDTO memberSignupRequestDTO) {
 
-        if (memberRepository.existsByEmail(memberSignupRequestDTO.getEmail())) {
+        if (existsByEmail(memberSignupRequestDTO.getEmail())) {
             throw new CustomValidationException("emailAlreadyExists");
         }
 
-        if (memberRepository.existsByNickname(memberSignupRequestDTO.getNickname())) {
+        if (existsByNickname(memberSignupRequestDTO.getNickname())) {
             throw new CustomValidationException("nicknameAlreadyExists");
         }
 
-        Member member = memberRepository.save(dtoToEntity(memberSignupRequestDTO));
-        return member.getId();
+        // 해시 계산 동안 커넥션을 점유하지 않도록 트랜잭션을 열기 전에 수행
+        String encodedPassword = passwordEncoder.encode(memberSignupRequestDTO.getPassword());
+        return transactionTemplate.execute(status -> {
+            Member member = memberRepository.save(dtoToEntity(memberSignupRequestDTO, encodedPassword));
+            memberExistenceFilter.add(member.getEmail(), member.getNickname());
+            return member.getId();
+        });
     }
 
     @Override
@@ -61,13 +121,13 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new NoSuchElementException("userNotFound"));
 
         if (!member.getEmail().equals(memberModifyRequestDTO.getEmail()) &&
-                memberRepository.existsByEmail(memberModifyRequestDTO.getEmail())) {
+                existsByEmail(memberModifyRequestDTO.getEmail())) {
             throw new CustomValidationException("emailAlreadyExists");
         }
         member.changeEmail(memberModifyRequestDTO.getEmail());
 
         if (!member.getNickname().equals(memberModifyRequestDTO.getNickname()) &&
-                memberRepository.existsByNickname(memberModifyRequestDTO.getNickname())) {
+                existsByNickname(memberModifyRequestDTO.getNickname())) {
             throw new CustomValidationException("nicknameAlreadyExists");
         }
         member.changeNickname(memberModifyRequestDTO.getNickname());
@@ -77,6 +137,9 @@ public class MemberServiceImpl implements MemberService {
         }
 
         memberRepository.save(member);
+        memberExistenceFilter.add(member.getEmail(), member.getNickname());
+        memberSummaryCache.invalidate(userId);
+        feedPageCache.invalidate();
     }
 
     @Override
@@ -85,29 +148,39 @@ public class MemberServiceImpl implements MemberService {
             throw new NoSuchElementException("userNotFound");
         }
         memberRepository.deleteById(userId);
+        memberSummaryCache.invalidate(userId);
+        feedPageCache.invalidate();
     }
 
     @Override
     public void checkPassword(Long userId, String password) {
-        Member member = memberRepository.findById(userId)
+        String encodedPassword = memberRepository.findById(userId)
+                .map(Member::getPassword)
                 .orElseThrow(() -> new NoSuchElementException("userNotFound"));
-        if (!passwordEncoder.matches(password, member.getPassword())) {
+        if (!passwordEncoder.matches(password, encodedPassword)) {
             throw new CustomValidationException("invalidPassword");
         }
     }
 
     @Override
     public void changePassword(Long userId, String newPassword) {
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("userNotFound"));
-        member.changePassword(passwordEncoder.encode(newPassword));
+        if (!memberRepository.existsById(userId)) {
+            throw new NoSuchElementException("userNotFound");
+        }
+
+        String encodedPassword = passwordEncoder.encode(newPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = memberRepository.findById(userId)
+                    .orElseThrow(() -> new NoSuchElementException("userNotFound"));
+            member.changePassword(encodedPassword);
+        });
     }
 
     @Override
-    public Member dtoToEntity(MemberSignupRequestDTO dto) {
+    public Member dtoToEntity(MemberSignupRequestDTO dto, String encodedPassword) {
         return Member.builder()
                 .email(dto.getEmail())
-                .password(passwordEncoder.encode(dto.getPassword()))
+                .password(encodedPassword)
                 .nickname(dto.getNickname())
                 .profileImageUrl(dto.getProfileImageUrl())
                 .memberRole(dto.getRole() != null ? dto.getRole() : MemberRole.USER)
@@ -1,11 +1,15 @@
 package com.jay.sapapi.service;
 
 import com.jay.sapapi.domain.PostLike;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
 import com.jay.sapapi.dto.postlike.request.PostLikeCreateRequestDTO;
 import com.jay.sapapi.dto.postlike.response.PostLikeResponseDTO;
+import com.jay.sapapi.dto.postlike.response.PostLikerResponseDTO;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Transactional
 public interface PostLikeService {
@@ -16,9 +20,15 @@ public interface PostLikeService {
     @Transactional(readOnly = true)
     List<PostLikeResponseDTO> getHeartsByPost(Long postId);
 
-    Long register(Long postId, Long userId);
+    @Transactional(readOnly = true)
+    CursorPageResponseDTO<PostLikerResponseDTO> getLikersByPost(Long postId, Long cursor, int size);
+
+    @Transactional(readOnly = true)
+    Set<Long> getLikedPostIds(Long userId, Collection<Long> postIds);
+
+    boolean register(Long postId, Long userId);
 
-    void remove(Long postId, Long userId);
+    boolean remove(Long postId, Long userId);
 
     PostLike dtoToEntity(PostLikeCreateRequestDTO postLikeDTO);
 
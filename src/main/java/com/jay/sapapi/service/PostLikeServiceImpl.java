@@ -3,18 +3,27 @@ package com.jay.sapapi.service;
 import com.jay.sapapi.domain.PostLike;
 import com.jay.sapapi.domain.Member;
 import com.jay.sapapi.domain.Post;
-import com.jay.sapapi.dto.post.response.PostResponseDTO;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
 import com.jay.sapapi.dto.postlike.request.PostLikeCreateRequestDTO;
 import com.jay.sapapi.dto.postlike.response.PostLikeResponseDTO;
+import com.jay.sapapi.dto.postlike.response.PostLikerResponseDTO;
 import com.jay.sapapi.repository.PostLikeRepository;
-import com.jay.sapapi.util.exception.CustomValidationException;
+import com.jay.sapapi.repository.PostRepository;
+import com.jay.sapapi.util.cache.FeedPageCache;
+import com.jay.sapapi.util.cache.LikedPostIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,9 +31,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PostLikeServiceImpl implements PostLikeService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Value("${post.liked-index.max-likes-per-user}")
+    private int maxLikesPerUser;
+
     private final PostLikeRepository postLikeRepository;
 
-    private final PostService postService;
+    private final PostRepository postRepository;
+
+    private final FeedPageCache feedPageCache;
+
+    private final LikedPostIndex likedPostIndex;
 
     @Override
     public PostLikeResponseDTO get(Long postId, Long userId) {
@@ -35,35 +53,76 @@ public class PostLikeServiceImpl implements PostLikeService {
 
     @Override
     public List<PostLikeResponseDTO> getHeartsByPost(Long postId) {
-        PostResponseDTO postResponseDTO = postService.get(postId);
-        List<PostLike> result = postLikeRepository.getPostLikesByPostOrderByCreatedAt(postService.responseDtoToEntity(postResponseDTO));
-        return result.stream().map(this::entityToDTO).collect(Collectors.toList());
+        checkPostExists(postId);
+        return postLikeRepository.getPostLikesByPostId(postId);
     }
 
     @Override
-    public Long register(Long postId, Long userId) {
-        PostLikeCreateRequestDTO postLikeDTO = PostLikeCreateRequestDTO.builder()
-                .postId(postId)
-                .userId(userId)
+    public CursorPageResponseDTO<PostLikerResponseDTO> getLikersByPost(Long postId, Long cursor, int size) {
+        checkPostExists(postId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<PostLikerResponseDTO> likerList = cursor != null
+                ? postLikeRepository.getLikersAfter(postId, cursor, pageRequest)
+                : postLikeRepository.getLikers(postId, pageRequest);
+        boolean hasNext = likerList.size() > pageSize;
+
+        List<PostLikerResponseDTO> items = hasNext ? likerList.subList(0, pageSize) : likerList;
+
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getLikeId() : null;
+        return CursorPageResponseDTO.<PostLikerResponseDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
+    }
+
+    @Override
+    public Set<Long> getLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
 
-        Optional<PostLike> existingHeart = postLikeRepository.findByPostIdAndUserId(postId, userId);
-        if (existingHeart.isPresent()) {
-            throw new CustomValidationException("heartAlreadyExists");
+        Roaring64Bitmap likedPostIds = likedPostIndex.get(userId);
+        if (likedPostIds == LikedPostIndex.OVER_LIMIT) {
+            return new HashSet<>(postLikeRepository.getLikedPostIdsIn(userId, postIds));
+        }
+        if (likedPostIds == null) {
+            long generation = likedPostIndex.currentGeneration(userId);
+            List<Long> result = postLikeRepository.getLikedPostIds(userId, PageRequest.of(0, maxLikesPerUser + 1));
+            if (result.size() > maxLikesPerUser) {
+                // 좋아요가 너무 많은 회원은 인덱스에 올리지 않고 그 사실만 기억해 이후로는 페이지 단위로 조회
+                likedPostIndex.putOverLimit(userId, generation);
+                return new HashSet<>(postLikeRepository.getLikedPostIdsIn(userId, postIds));
+            }
+            likedPostIndex.put(userId, generation, result);
+            Set<Long> candidates = new HashSet<>(result);
+            return postIds.stream().filter(candidates::contains).collect(Collectors.toSet());
         }
+        return postIds.stream().filter(likedPostIds::contains).collect(Collectors.toSet());
+    }
 
-        PostLike postLike = postLikeRepository.save(dtoToEntity(postLikeDTO));
-        return postLike.getId();
+    @Override
+    public boolean register(Long postId, Long userId) {
+        boolean created = postLikeRepository.insertIfAbsent(postId, userId);
+        if (created) {
+            postRepository.incrementLikeCount(postId);
+            likedPostIndex.markLiked(userId, postId);
+            feedPageCache.invalidate();
+        }
+        return created;
     }
 
     @Override
-    public void remove(Long postId, Long userId) {
-        Optional<PostLike> existingHeart = postLikeRepository.findByPostIdAndUserId(postId, userId);
-        if (existingHeart.isEmpty()) {
-            throw new NoSuchElementException("heartNotFound");
+    public boolean remove(Long postId, Long userId) {
+        boolean removed = postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0;
+        if (removed) {
+            postRepository.decrementLikeCount(postId);
+            likedPostIndex.markUnliked(userId, postId);
+            feedPageCache.invalidate();
         }
-        Long heartId = existingHeart.get().getId();
-        postLikeRepository.deleteById(heartId);
+        return removed;
     }
 
     @Override
@@ -74,4 +133,10 @@ public class PostLikeServiceImpl implements PostLikeService {
                 .build();
     }
 
+    private void checkPostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new NoSuchElementException("postNotFound");
+        }
+    }
+
 }
@@ -1,10 +1,14 @@
 package com.jay.sapapi.service;
 
-import com.jay.sapapi.domain.Member;
 import com.jay.sapapi.domain.Post;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
+import com.jay.sapapi.dto.image.ImageMetadataDTO;
+import com.jay.sapapi.dto.member.response.MemberSummaryDTO;
 import com.jay.sapapi.dto.post.request.PostCreateRequestDTO;
 import com.jay.sapapi.dto.post.request.PostModifyRequestDTO;
 import com.jay.sapapi.dto.post.response.PostResponseDTO;
+import com.jay.sapapi.util.sketch.HyperLogLog;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -15,11 +19,25 @@ public interface PostService {
     @Transactional(readOnly = true)
     PostResponseDTO get(Long postId);
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     void incrementViewCount(Long postId);
 
+    @Transactional(propagation = Propagation.SUPPORTS)
+    void recordViewer(Long postId, String viewerKey);
+
+    void mergeViewerSketch(Long postId, HyperLogLog sketch);
+
     @Transactional(readOnly = true)
     List<PostResponseDTO> getList();
 
+    @Transactional(readOnly = true)
+    CursorPageResponseDTO<PostResponseDTO> getPage(Long cursor, int size);
+
+    @Transactional(readOnly = true)
+    List<Long> getPostIdsAfter(Long lastId, int size);
+
+    int repairCounters(Long fromId, Long toId);
+
     Long register(PostCreateRequestDTO postCreateRequestDTO);
 
     void modify(Long postId, PostModifyRequestDTO postDTO);
@@ -30,7 +48,7 @@ public interface PostService {
 
     Post responseDtoToEntity(PostResponseDTO postResponseDTO);
 
-    default PostResponseDTO entityToDTO(Post post, Member writer, int commentCount, int likeCount) {
+    default PostResponseDTO entityToDTO(Post post, Long viewCount, MemberSummaryDTO writer, ImageMetadataDTO postImage) {
         return PostResponseDTO.builder()
                 .id(post.getId())
                 .userId(writer.getId())
@@ -39,10 +57,13 @@ public interface PostService {
                 .writerProfileImageUrl(writer.getProfileImageUrl())
                 .title(post.getTitle())
                 .content(post.getContent())
-                .viewCount(post.getViewCount())
+                .viewCount(viewCount)
+                .uniqueViewerCount(post.getUniqueViewerCount())
                 .postImageUrl(post.getPostImageUrl())
-                .commentCount(commentCount)
-                .likeCount(likeCount)
+                .postImageWidth(postImage != null ? postImage.getWidth() : null)
+                .postImageHeight(postImage != null ? postImage.getHeight() : null)
+                .commentCount(post.getCommentCount().intValue())
+                .likeCount(post.getLikeCount().intValue())
                 .createdAt(post.getCreatedAt())
                 .modifiedAt(post.getModifiedAt())
                 .build();
@@ -2,57 +2,139 @@ package com.jay.sapapi.service;
 
 import com.jay.sapapi.domain.Member;
 import com.jay.sapapi.domain.Post;
+import com.jay.sapapi.domain.PostViewerSketch;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
+import com.jay.sapapi.dto.image.ImageMetadataDTO;
+import com.jay.sapapi.dto.member.response.MemberSummaryDTO;
 import com.jay.sapapi.dto.post.request.PostCreateRequestDTO;
 import com.jay.sapapi.dto.post.request.PostModifyRequestDTO;
 import com.jay.sapapi.dto.post.response.PostResponseDTO;
 import com.jay.sapapi.repository.PostRepository;
+import com.jay.sapapi.repository.PostViewerSketchRepository;
+import com.jay.sapapi.util.cache.FeedPageCache;
+import com.jay.sapapi.util.counter.ViewCountBuffer;
+import com.jay.sapapi.util.counter.ViewerSketchBuffer;
+import com.jay.sapapi.util.sketch.HyperLogLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Log4j2
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
 
+    private final PostViewerSketchRepository postViewerSketchRepository;
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    private final ViewerSketchBuffer viewerSketchBuffer;
+
+    private final FeedPageCache feedPageCache;
+
+    private final MemberService memberService;
+
+    private final ImageService imageService;
+
     @Override
     public PostResponseDTO get(Long postId) {
-        Object result = postRepository.getPostByPostId(postId);
-        if (result == null) {
-            throw new NoSuchElementException("postNotFound");
-        }
-        Object[] arr = (Object[]) result;
-        return entityToDTO((Post) arr[0], (Member) arr[1], ((Number) arr[2]).intValue(), ((Number) arr[3]).intValue());
+        Optional<Post> result = postRepository.findById(postId);
+        Post post = result.orElseThrow(() -> new NoSuchElementException("postNotFound"));
+        Long writerId = post.getWriter().getId();
+        MemberSummaryDTO writer = memberService.getSummaries(List.of(writerId)).get(writerId);
+        ImageMetadataDTO postImage = post.getPostImageUrl() != null
+                ? imageService.getImageMetadata(List.of(post.getPostImageUrl())).get(post.getPostImageUrl())
+                : null;
+        return entityToDTO(post, post.getViewCount() + viewCountBuffer.getPendingCount(postId), writer, postImage);
     }
 
     @Override
     public void incrementViewCount(Long postId) {
-        Optional<Post> result = postRepository.findById(postId);
-        Post post = result.orElseThrow(() -> new NoSuchElementException("postNotFound"));
-        post.incrementViewCount();
-        postRepository.save(post);
+        viewCountBuffer.increment(postId);
+    }
+
+    @Override
+    public void recordViewer(Long postId, String viewerKey) {
+        viewerSketchBuffer.offer(postId, viewerKey);
+    }
+
+    @Override
+    public void mergeViewerSketch(Long postId, HyperLogLog sketch) {
+        Optional<PostViewerSketch> result = postViewerSketchRepository.findById(postId);
+        HyperLogLog merged;
+        if (result.isPresent()) {
+            PostViewerSketch viewerSketch = result.get();
+            merged = HyperLogLog.fromBytes(viewerSketch.getRegisters());
+            merged.merge(sketch);
+            viewerSketch.changeRegisters(merged.toBytes());
+        } else {
+            // 집계 주기 사이에 삭제된 게시글은 건너뜀
+            if (!postRepository.existsById(postId)) {
+                return;
+            }
+            merged = sketch;
+            postViewerSketchRepository.save(PostViewerSketch.builder()
+                    .post(postRepository.getReferenceById(postId))
+                    .registers(merged.toBytes())
+                    .build());
+        }
+        postRepository.updateUniqueViewerCount(postId, merged.estimate());
     }
 
     @Override
     public List<PostResponseDTO> getList() {
-        List<Object> postList = postRepository.getAllPosts();
-        return postList.stream().map(arr -> {
-            Object[] entityArr = (Object[]) arr;
-            return entityToDTO((Post) entityArr[0], (Member) entityArr[1],
-                    ((Number) entityArr[2]).intValue(), ((Number) entityArr[3]).intValue());
-        }).toList();
+        List<Post> postList = postRepository.findAll(Sort.by(Sort.Direction.DESC, "id"));
+        return toDTOList(postList);
+    }
+
+    @Override
+    public CursorPageResponseDTO<PostResponseDTO> getPage(Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+
+        // 한 건을 더 조회하여 다음 페이지 존재 여부를 판단
+        List<Post> postList = postRepository.getPostsBefore(before, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = postList.size() > pageSize;
+
+        List<PostResponseDTO> items = toDTOList(hasNext ? postList.subList(0, pageSize) : postList);
+
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return CursorPageResponseDTO.<PostResponseDTO>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public List<Long> getPostIdsAfter(Long lastId, int size) {
+        return postRepository.getPostIdsAfter(lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public int repairCounters(Long fromId, Long toId) {
+        return postRepository.recalculateCounters(fromId, toId);
     }
 
     @Override
     public Long register(PostCreateRequestDTO postDTO) {
         Post post = dtoToEntity(postDTO);
         Post result = postRepository.save(post);
+        feedPageCache.invalidate();
         return result.getId();
     }
 
@@ -68,6 +150,7 @@ public class PostServiceImpl implements PostService {
         }
 
         postRepository.save(post);
+        feedPageCache.invalidate();
     }
 
     @Override
@@ -76,6 +159,7 @@ public class PostServiceImpl implements PostService {
             throw new NoSuchElementException("postNotFound");
         }
         postRepository.deleteById(postId);
+        feedPageCache.invalidate();
     }
 
     @Override
@@ -100,4 +184,20 @@ public class PostServiceImpl implements PostService {
                 .build();
     }
 
+    private List<PostResponseDTO> toDTOList(List<Post> postList) {
+        // 작성자 정보는 조인 없이 회원 요약 캐시에서 한 번에 채움
+        Set<Long> writerIds = postList.stream().map(post -> post.getWriter().getId()).collect(Collectors.toSet());
+        Map<Long, MemberSummaryDTO> writers = memberService.getSummaries(writerIds);
+        // 이미지 크기도 페이지 단위로 한 번에 조회
+        Set<String> postImageUrls = postList.stream()
+                .map(Post::getPostImageUrl)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, ImageMetadataDTO> postImages = imageService.getImageMetadata(postImageUrls);
+        return postList.stream()
+                .map(post -> entityToDTO(post, post.getViewCount(), writers.get(post.getWriter().getId()),
+                        post.getPostImageUrl() != null ? postImages.get(post.getPostImageUrl()) : null))
+                .toList();
+    }
+
 }
@@ -1,6 +1,9 @@
 package com.jay.sapapi.util;
 
 import com.jay.sapapi.dto.image.ImageType;
+import com.jay.sapapi.util.cache.ImageMetadataCache;
+import com.jay.sapapi.util.cache.ThumbnailCache;
+import com.jay.sapapi.util.exception.CustomValidationException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -14,19 +17,44 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Component
 @Log4j2
 @RequiredArgsConstructor
 public class CustomFileUtil {
 
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    // 썸네일, 축소본은 원본과 같은 디렉터리에 두기 위해 접두어를 떼고 샤딩
+    private static final Pattern DERIVED_PREFIX = Pattern.compile("^(sp?_|w[0-9]+_)");
+
+    private static final Pattern SHARD_KEY = Pattern.compile("[0-9a-f]{4}");
+
     @Value("${image.upload.path}")
     private String uploadPath;
 
+    private final ThumbnailCache thumbnailCache;
+
+    private final ImageMetadataCache imageMetadataCache;
+
     @PostConstruct
     public void init() {
         File tempFolder = new File(uploadPath);
@@ -37,35 +65,129 @@ public class CustomFileUtil {
         log.info("UploadPath: " + uploadPath);
     }
 
-    public String saveFile(MultipartFile file, ImageType imageType) {
+    // 업로드를 임시 파일로 내려받으면서 SHA-256 을 함께 계산
+    public HashedFile saveTempFile(MultipartFile file) {
 
         if (file == null) {
             throw new NullPointerException();
         }
 
-        String savedName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        Path savePath = Paths.get(uploadPath, savedName);
-        try {
-            Files.copy(file.getInputStream(), savePath);
-            log.info("File saved at: " + savePath);
-            String contentType = file.getContentType();
-            if (contentType != null && contentType.startsWith("image")) {
-                Path thumbnailPath = Paths.get(uploadPath, "s_" + savedName);
-                imageType.getThumbnailStrategy().createThumbnail(savePath, thumbnailPath);
-                log.info("Thumbnail created at: " + thumbnailPath);
+        MessageDigest digest = sha256();
+        Path tempPath = Paths.get(uploadPath, "tmp_" + UUID.randomUUID());
+        long contentLength;
+        String extension;
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            contentLength = Files.copy(in, tempPath);
+            extension = ImageSignature.extensionOf(detectContentType(tempPath));
+        } catch (IOException e) {
+            deleteTempFile(tempPath);
+            throw new RuntimeException(e.getMessage());
+        }
+        return new HashedFile(tempPath, HexFormat.of().formatHex(digest.digest()) + extension, contentLength);
+    }
+
+    // 요청 본문을 버퍼 하나로 읽어 바로 임시 파일에 쓰면서 SHA-256, 크기, 실제 형식을 확인 (위반 시 즉시 중단)
+    public HashedFile saveTempStream(InputStream in, String contentType, long maxBytes) {
+        MessageDigest digest = sha256();
+        Path tempPath = Paths.get(uploadPath, "tmp_" + UUID.randomUUID());
+        ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+        long total = 0;
+        boolean headerChecked = false;
+
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel target = FileChannel.open(tempPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            boolean eof = false;
+            while (!eof) {
+                eof = source.read(buffer) == -1;
+                // 형식 확인에 필요한 앞부분이 모일 때까지 계속 읽음
+                if (!eof && !headerChecked && buffer.position() < ImageSignature.HEADER_LENGTH) {
+                    continue;
+                }
+                if (buffer.position() == 0) {
+                    continue;
+                }
+                if (!headerChecked) {
+                    checkSignature(buffer, contentType);
+                    headerChecked = true;
+                }
+
+                total += buffer.position();
+                if (total > maxBytes) {
+                    throw new CustomValidationException("fileTooLarge");
+                }
+
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+            if (total == 0) {
+                throw new CustomValidationException("emptyFile");
             }
         } catch (IOException e) {
+            deleteTempFile(tempPath);
             throw new RuntimeException(e.getMessage());
+        } catch (RuntimeException e) {
+            deleteTempFile(tempPath);
+            throw e;
         }
+        // 형식 확인을 통과했으므로 선언한 형식이 곧 실제 형식
+        return new HashedFile(tempPath, HexFormat.of().formatHex(digest.digest()) + ImageSignature.extensionOf(contentType),
+                total);
+    }
 
-        return savedName;
+    public void moveTempFile(Path tempPath, String fileName) {
+        try {
+            Files.move(tempPath, getWritePath(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("File saved at: {}", fileName);
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+
+    public void deleteTempFile(Path tempPath) {
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException e) {
+            log.warn("Temp file not deleted: {}", tempPath);
+        }
+    }
+
+    private void checkSignature(ByteBuffer buffer, String contentType) {
+        String detected = ImageSignature.detect(buffer.array(), buffer.position());
+        if (detected == null || !detected.equals(contentType)) {
+            throw new CustomValidationException("unsupportedContentType");
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record HashedFile(Path tempPath, String fileName, long contentLength) {
+    }
+
+    // 파일 앞부분으로 실제 이미지 형식을 판별 (알 수 없으면 null)
+    public String detectContentType(Path path) throws IOException {
+        byte[] header = new byte[ImageSignature.HEADER_LENGTH];
+        int length;
+        try (InputStream in = Files.newInputStream(path)) {
+            length = in.readNBytes(header, 0, header.length);
+        }
+        return ImageSignature.detect(header, length);
     }
 
     public ResponseEntity<Resource> getFile(String fileName) {
-        Resource resource = new FileSystemResource(uploadPath + File.separator + fileName);
+        Resource resource = new FileSystemResource(getPath(fileName));
 
         if (!resource.exists()) {
-            resource = new FileSystemResource(uploadPath + File.separator + "default.png");
+            resource = new FileSystemResource(getPath("default.png"));
         }
 
         HttpHeaders headers = new HttpHeaders();
@@ -77,21 +199,88 @@ public class CustomFileUtil {
         return ResponseEntity.ok().headers(headers).body(resource);
     }
 
+    // 조회용 경로: 샤딩된 위치를 먼저 보고, 이전(평평한) 위치에 남은 파일도 찾음
+    public Path getPath(String fileName) {
+        Path sharded = getShardedPath(fileName);
+        if (Files.isRegularFile(sharded)) {
+            return sharded;
+        }
+        Path legacy = getRoot().resolve(fileName);
+        return Files.isRegularFile(legacy) ? legacy : sharded;
+    }
+
+    // 저장용 경로: 항상 샤딩된 위치 (상위 디렉터리 생성)
+    public Path getWritePath(String fileName) throws IOException {
+        Path sharded = getShardedPath(fileName);
+        Files.createDirectories(sharded.getParent());
+        return sharded;
+    }
+
+    // 이전 위치의 파일을 샤딩된 위치로 이동 (이미 있으면 같은 내용이므로 이전 파일만 삭제)
+    public boolean moveToShard(Path legacyPath) throws IOException {
+        String fileName = legacyPath.getFileName().toString();
+        Path target = getWritePath(fileName);
+        if (Files.exists(target)) {
+            Files.deleteIfExists(legacyPath);
+            return false;
+        }
+        Files.move(legacyPath, target, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    public Path getRoot() {
+        return Paths.get(uploadPath).normalize();
+    }
+
+    // 해시(또는 이름의 해시) 앞 4자리로 두 단계 디렉터리에 분산: ab/cd/<name> (존재 여부는 확인하지 않음)
+    public Path getShardedPath(String fileName) {
+        if (fileName == null || fileName.isEmpty() || fileName.equals(".") || fileName.equals("..")
+                || fileName.indexOf('/') >= 0 || fileName.indexOf('\\') >= 0) {
+            throw new NoSuchElementException("imageNotFound");
+        }
+        String shard = shardKey(DERIVED_PREFIX.matcher(fileName).replaceFirst(""));
+        return getRoot().resolve(shard.substring(0, 2)).resolve(shard.substring(2, 4)).resolve(fileName);
+    }
+
+    private String shardKey(String baseName) {
+        if (SHARD_KEY.matcher(baseName).lookingAt()) {
+            return baseName;
+        }
+        return HexFormat.of().formatHex(sha256().digest(baseName.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public boolean exists(String fileName) {
+        return Files.isRegularFile(getPath(fileName));
+    }
+
+    // 없는 파일은 기본 이미지로 대체
+    public Path resolveFile(String fileName) {
+        Path path = getPath(fileName);
+        if (!Files.isRegularFile(path)) {
+            path = getPath("default.png");
+            if (!Files.isRegularFile(path)) {
+                throw new NoSuchElementException("imageNotFound");
+            }
+        }
+        return path;
+    }
+
     public void deleteFile(String fileName) {
 
         if (fileName == null) {
             throw new NullPointerException();
         }
 
-        Path filePath = Paths.get(uploadPath, fileName);
+        Path filePath = getPath(fileName);
         try {
             Files.deleteIfExists(filePath);
-            String contentType = Files.probeContentType(filePath);
-            if (contentType != null && contentType.startsWith("image")) {
-                String thumbnailFileName = "s_" + fileName;
-                Path thumbnailPath = Paths.get(uploadPath, thumbnailFileName);
-                Files.deleteIfExists(thumbnailPath);
+            // 이미지가 아니면 썸네일이 없으므로 형식을 확인하지 않고 모든 종류를 함께 삭제
+            for (ImageType imageType : ImageType.values()) {
+                Files.deleteIfExists(getPath(imageType.thumbnailName(fileName)));
             }
+            // 파일을 지운 뒤 무효화해야 삭제 전에 읽은 썸네일, 메타데이터가 다시 캐시되지 않음
+            thumbnailCache.invalidate(fileName);
+            imageMetadataCache.invalidate(fileName);
         } catch (IOException e) {
             throw new RuntimeException(e.getMessage());
         }
@@ -0,0 +1,54 @@
+package com.jay.sapapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 파일 앞부분(매직 넘버)으로 실제 이미지 형식을 판별
+public final class ImageSignature {
+
+    public static final int HEADER_LENGTH = 12;
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+
+    private static final byte[] GIF87A = "GIF87a".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] GIF89A = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+
+    private ImageSignature() {
+    }
+
+    // 알 수 없는 형식이면 null
+    public static String detect(byte[] header, int length) {
+        if (startsWith(header, length, 0, PNG)) {
+            return "image/png";
+        }
+        if (startsWith(header, length, 0, JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, length, 0, GIF87A) || startsWith(header, length, 0, GIF89A)) {
+            return "image/gif";
+        }
+        return null;
+    }
+
+    // 저장 파일명의 확장자는 클라이언트가 보낸 이름이 아니라 판별한 형식으로 정함 (알 수 없으면 확장자 없음)
+    public static String extensionOf(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        return switch (contentType) {
+            case "image/png" -> ".png";
+            case "image/jpeg" -> ".jpg";
+            case "image/gif" -> ".gif";
+            default -> "";
+        };
+    }
+
+    private static boolean startsWith(byte[] header, int length, int offset, byte[] signature) {
+        return length >= offset + signature.length
+                && Arrays.equals(header, offset, offset + signature.length, signature, 0, signature.length);
+    }
+
+}
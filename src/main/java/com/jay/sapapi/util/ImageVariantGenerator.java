@@ -0,0 +1,129 @@
+package com.jay.sapapi.util;
+
+import com.jay.sapapi.util.exception.CustomValidationException;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 허용된 너비의 축소본을 첫 요청 때 전용 풀에서 만들어 디스크에 저장
+@Component
+@Log4j2
+public class ImageVariantGenerator {
+
+    private final CustomFileUtil fileUtil;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Set<Integer> widths;
+
+    // 생성 대기/진행 중인 축소본 파일명 (같은 축소본은 한 번만 생성)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantGenerator(CustomFileUtil fileUtil,
+                                 @Qualifier("variantExecutor") ThreadPoolTaskExecutor executor,
+                                 @Value("${image.variant.widths}") int[] widths) {
+        this.fileUtil = fileUtil;
+        this.executor = executor;
+        this.widths = Arrays.stream(widths).boxed().collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static String variantName(String fileName, int width) {
+        return "w" + width + "_" + fileName;
+    }
+
+    // 제공할 파일명을 반환 (원본이 요청 너비보다 좁거나 이미지가 아니면 원본)
+    // 아직 생성 중이거나 풀이 가득 차 거절되었으면 null (호출 측은 원본을 캐시 없이 제공)
+    public String getVariant(String fileName, int width) throws IOException {
+        if (!widths.contains(width)) {
+            throw new CustomValidationException("invalidWidth");
+        }
+
+        String variantName = variantName(fileName, width);
+        if (fileUtil.exists(variantName)) {
+            return variantName;
+        }
+        // 원본이 없으면 원본 조회와 같이 기본 이미지로 대체되도록 원본 이름을 반환
+        if (!fileUtil.exists(fileName)) {
+            return fileName;
+        }
+        // 헤더만 읽으므로 요청 스레드에서 판단
+        if (readWidth(fileUtil.getPath(fileName)) <= width) {
+            return fileName;
+        }
+
+        submit(fileName, variantName, width);
+        return null;
+    }
+
+    private void submit(String fileName, String variantName, int width) {
+        if (!pending.add(variantName)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(fileName, variantName, width);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Variant not created: {} ({})", variantName, e.getMessage());
+                } finally {
+                    pending.remove(variantName);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pending.remove(variantName);
+            log.warn("Variant queue full, skipped: {}", variantName);
+        }
+    }
+
+    public void deleteVariants(String fileName) {
+        for (int width : widths) {
+            try {
+                Files.deleteIfExists(fileUtil.getPath(variantName(fileName, width)));
+            } catch (IOException e) {
+                log.warn("Variant not deleted: {} ({})", variantName(fileName, width), e.getMessage());
+            }
+        }
+    }
+
+    private void generate(String fileName, String variantName, int width) throws IOException {
+        Path sourcePath = fileUtil.getPath(fileName);
+        Path variantPath = fileUtil.getWritePath(variantName);
+        // 확장자로 포맷을 정하므로 접두어만 바꾼 임시 파일에 쓴 뒤 이동
+        Path tempPath = variantPath.resolveSibling("tmp_" + variantPath.getFileName());
+        try {
+            // EXIF 회전으로 가로세로가 바뀌어도 목표 너비보다 작아지지 않도록 짧은 변 기준으로 솎아서 디코딩
+            BufferedImage image = SubsampledImageReader.read(sourcePath,
+                    (sourceW, sourceH) -> new Rectangle(0, 0, sourceW, sourceH), width, width);
+            Thumbnails.of(image)
+                    .width(width)
+                    .toFile(tempPath.toFile());
+            Files.move(tempPath, variantPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        log.info("Variant created at: {}", variantPath);
+    }
+
+    // 헤더만 읽어 너비를 확인 (이미지가 아니면 0)
+    private int readWidth(Path path) throws IOException {
+        Dimension size = SubsampledImageReader.readSize(path);
+        return size != null ? size.width : 0;
+    }
+
+}
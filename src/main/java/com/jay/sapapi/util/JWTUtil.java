@@ -1,6 +1,9 @@
 package com.jay.sapapi.util;
 
+import com.jay.sapapi.util.cache.StripedBoundedCache;
 import com.jay.sapapi.util.exception.CustomJWTException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -12,30 +15,40 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
 
 @Component
 public class JWTUtil {
 
-    private static String secretKey;
+    private static volatile SecretKey key;
+
+    private static volatile JwtParser parser;
+
+    // 검증을 통과한 토큰의 claims (키: 토큰의 SHA-256 digest, 만료: 토큰의 exp)
+    private static volatile StripedBoundedCache<String, Map<String, Object>> verifiedTokens = new StripedBoundedCache<>(0, 0);
 
     @Value("${spring.jwt.secret}")
     public void setSecretKey(String secretKey) {
-        JWTUtil.secretKey = secretKey;
+        SecretKey newKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        JWTUtil.parser = Jwts.parserBuilder()
+                .setSigningKey(newKey)
+                .build();
+        JWTUtil.key = newKey;
+        JWTUtil.verifiedTokens.invalidateAll();
     }
 
-    public static String generateToken(Map<String, Object> valueMap, int min) {
-
-        SecretKey key = null;
-
-        try {
-            key = Keys.hmacShaKeyFor(JWTUtil.secretKey.getBytes(StandardCharsets.UTF_8));
-        } catch(Exception e) {
-            throw new RuntimeException(e.getMessage());
-        }
+    @Value("${spring.jwt.verified-cache.max-entries}")
+    public void setVerifiedCacheMaxEntries(int maxEntries) {
+        JWTUtil.verifiedTokens = new StripedBoundedCache<>(maxEntries, 0);
+    }
 
+    public static String generateToken(Map<String, Object> valueMap, int min) {
         return Jwts.builder()
                 .setHeader(Map.of("typ","JWT"))
                 .setClaims(valueMap)
@@ -46,14 +59,29 @@ public class JWTUtil {
     }
 
     public static Map<String, Object> validateToken(String token) {
-        Map<String, Object> claim;
+        if (token == null || token.isEmpty()) {
+            throw new CustomJWTException("Error");
+        }
+
+        StripedBoundedCache<String, Map<String, Object>> cache = verifiedTokens;
+        String digest = digest(token);
+        Map<String, Object> cached = cache.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseClaims(token);
+        Map<String, Object> claim = Collections.unmodifiableMap(claims);
+        if (claims.getExpiration() != null) {
+            cache.put(digest, claim, claims.getExpiration().getTime());
+        }
+        return claim;
+    }
+
+    // 캐시를 거치지 않고 서명과 claims 를 검증
+    static Claims parseClaims(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(JWTUtil.secretKey.getBytes(StandardCharsets.UTF_8));
-            claim = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch(MalformedJwtException malformedJwtException) {
             throw new CustomJWTException("MalFormed");
         } catch(ExpiredJwtException expiredJwtException) {
@@ -65,7 +93,15 @@ public class JWTUtil {
         } catch(Exception e) {
             throw new CustomJWTException("Error");
         }
-        return claim;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
 }
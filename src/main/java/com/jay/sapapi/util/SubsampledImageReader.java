@@ -0,0 +1,104 @@
+package com.jay.sapapi.util;
+
+import net.coobird.thumbnailator.filters.ImageFilter;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+// 헤더에서 크기를 먼저 읽고, 필요한 영역만 목표 크기에 가깝게 솎아서 디코딩
+// (6000x4000 원본에서 200px 썸네일을 만들 때 전체 래스터를 올리지 않음)
+public final class SubsampledImageReader {
+
+    private SubsampledImageReader() {
+    }
+
+    @FunctionalInterface
+    public interface RegionSelector {
+
+        Rectangle select(int width, int height);
+
+    }
+
+    public static BufferedImage read(Path source, RegionSelector selector, int targetWidth, int targetHeight)
+            throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                throw new IOException("unsupportedImage");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("unsupportedImage");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                Rectangle region = selector.select(width, height).intersection(new Rectangle(0, 0, width, height));
+                if (region.isEmpty()) {
+                    region = new Rectangle(0, 0, width, height);
+                }
+
+                // 솎아낸 결과가 목표보다 작아지지 않는 가장 큰 정수 배율
+                int factor = Math.max(1, Math.min(region.width / Math.max(1, targetWidth),
+                        region.height / Math.max(1, targetHeight)));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(region);
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                BufferedImage image = reader.read(0, param);
+
+                ImageFilter orientationFilter = orientationFilter(reader);
+                return orientationFilter != null ? orientationFilter.apply(image) : image;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 헤더만 읽어 가로세로 크기를 확인 (이미지가 아니면 null)
+    public static Dimension readSize(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본을 Thumbnailator 로 직접 읽을 때와 같이 EXIF 회전 정보를 반영
+    private static ImageFilter orientationFilter(ImageReader reader) {
+        try {
+            Orientation orientation = ExifUtils.getExifOrientation(reader, 0);
+            if (orientation == null || orientation == Orientation.TOP_LEFT) {
+                return null;
+            }
+            return ExifFilterUtils.getFilterForOrientation(orientation);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.jay.sapapi.util;
+
+import com.jay.sapapi.dto.image.ImageType;
+import com.jay.sapapi.dto.image.ThumbnailStatus;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 썸네일 생성을 업로드 요청 스레드에서 분리해 전용 풀에서 처리
+@Component
+@Log4j2
+public class ThumbnailGenerator {
+
+    private final CustomFileUtil fileUtil;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    // 생성 대기/진행 중인 썸네일 파일명 (완료/실패 여부는 썸네일 파일 존재로 판단)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public ThumbnailGenerator(CustomFileUtil fileUtil, @Qualifier("thumbnailExecutor") ThreadPoolTaskExecutor executor) {
+        this.fileUtil = fileUtil;
+        this.executor = executor;
+    }
+
+    // 종류를 지정하지 않으면 모든 종류를 순서대로 확인
+    public static List<ImageType> typesOf(ImageType imageType) {
+        return imageType != null ? List.of(imageType) : List.of(ImageType.values());
+    }
+
+    public void submit(String fileName, ImageType imageType) {
+        String thumbnailName = imageType.thumbnailName(fileName);
+        if (!pending.add(thumbnailName)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(fileName, imageType));
+        } catch (TaskRejectedException e) {
+            pending.remove(thumbnailName);
+            log.warn("Thumbnail queue full, skipped: {}", thumbnailName);
+        }
+    }
+
+    // 해당 종류의 썸네일이 없고 생성 중도 아니면 true
+    public boolean isMissing(String fileName, ImageType imageType) {
+        String thumbnailName = imageType.thumbnailName(fileName);
+        return !pending.contains(thumbnailName) && !fileUtil.exists(thumbnailName);
+    }
+
+    public ThumbnailStatus getStatus(String fileName, ImageType imageType) {
+        List<ImageType> types = typesOf(imageType);
+        for (ImageType type : types) {
+            if (pending.contains(type.thumbnailName(fileName))) {
+                return ThumbnailStatus.PENDING;
+            }
+        }
+        for (ImageType type : types) {
+            for (String thumbnailName : type.thumbnailLookupNames(fileName)) {
+                if (fileUtil.exists(thumbnailName)) {
+                    return ThumbnailStatus.READY;
+                }
+            }
+        }
+        if (fileUtil.exists(fileName)) {
+            return ThumbnailStatus.FAILED;
+        }
+        throw new NoSuchElementException("imageNotFound");
+    }
+
+    private void generate(String fileName, ImageType imageType) {
+        String thumbnailName = imageType.thumbnailName(fileName);
+        Path sourcePath = fileUtil.getPath(fileName);
+        Path thumbnailPath = null;
+        Path tempPath = null;
+        try {
+            if (!Files.isRegularFile(sourcePath)) {
+                return;
+            }
+            thumbnailPath = fileUtil.getWritePath(thumbnailName);
+            // 반쯤 쓰인 썸네일이 조회되지 않도록 임시 파일에 만든 뒤 이동 (확장자로 포맷을 정하므로 접두어만 변경)
+            tempPath = thumbnailPath.resolveSibling("tmp_" + thumbnailPath.getFileName());
+            imageType.getThumbnailStrategy().createThumbnail(sourcePath, tempPath);
+            Files.move(tempPath, thumbnailPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Thumbnail created at: {}", thumbnailPath);
+        } catch (Exception e) {
+            log.error("Thumbnail failed: {} ({})", thumbnailName, e.getMessage());
+            try {
+                if (tempPath != null) {
+                    Files.deleteIfExists(tempPath);
+                }
+            } catch (IOException ignored) {
+            }
+        } finally {
+            pending.remove(thumbnailName);
+        }
+    }
+
+}
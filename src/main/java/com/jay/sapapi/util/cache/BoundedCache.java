@@ -0,0 +1,135 @@
+package com.jay.sapapi.util.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+public class BoundedCache<K, V> {
+
+    private final int maxEntries;
+
+    private final long ttlMillis;
+
+    // 항목 무게(예: 바이트 수)의 합 상한, 0 이하이면 개수로만 제한
+    private final long maxWeight;
+
+    private final ToLongFunction<V> weigher;
+
+    private long totalWeight;
+
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    public BoundedCache(int maxEntries, long ttlMillis) {
+        this(maxEntries, ttlMillis, 0, value -> 0);
+    }
+
+    public BoundedCache(int maxEntries, long ttlMillis, long maxWeight, ToLongFunction<V> weigher) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > BoundedCache.this.maxEntries) {
+                    totalWeight -= eldest.getValue().weight();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            remove(key);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        store(key, value, expiresAt);
+    }
+
+    // 항목 자체에 만료 시각이 있는 경우 (TTL 과 더 이른 쪽을 사용)
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        long expiresAt = ttlMillis > 0 ? Math.min(System.currentTimeMillis() + ttlMillis, expiresAtMillis) : expiresAtMillis;
+        store(key, value, expiresAt);
+    }
+
+    public synchronized void invalidate(K key) {
+        remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private void store(K key, V value, long expiresAt) {
+        long weight = maxWeight > 0 ? weigher.applyAsLong(value) : 0;
+        // 하나만으로 상한을 넘는 항목은 다른 항목을 모두 밀어내지 않도록 저장하지 않음
+        if (maxWeight > 0 && weight > maxWeight) {
+            remove(key);
+            return;
+        }
+
+        CacheEntry<V> previous = entries.put(key, new CacheEntry<>(value, expiresAt, weight));
+        totalWeight += weight - (previous != null ? previous.weight() : 0);
+
+        if (maxWeight > 0) {
+            Iterator<CacheEntry<V>> iterator = entries.values().iterator();
+            while (totalWeight > maxWeight && iterator.hasNext()) {
+                totalWeight -= iterator.next().weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    private void remove(K key) {
+        CacheEntry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    private record CacheEntry<V>(V value, long expiresAt, long weight) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.jay.sapapi.util.cache;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+@Getter
+@AllArgsConstructor
+public class CachedFeedPage {
+
+    private static final byte[] LIKED_FLAG = "\"likedByMe\":false".getBytes(StandardCharsets.UTF_8);
+
+    private static final int LIKED_VALUE_OFFSET = LIKED_FLAG.length - "false".length();
+
+    // "false"와 길이를 맞추기 위해 공백을 덧붙인 값
+    private static final byte[] LIKED_VALUE = "true ".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] json;
+
+    private final byte[] gzip;
+
+    private final List<Long> postIds;
+
+    private final int[] likedFlagOffsets;
+
+    public static CachedFeedPage of(byte[] json, List<Long> postIds) {
+        return new CachedFeedPage(json, gzip(json), postIds, findLikedFlagOffsets(json, postIds.size()));
+    }
+
+    public static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    public byte[] personalize(Set<Long> likedPostIds) {
+        byte[] patched = json.clone();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (likedPostIds.contains(postIds.get(i))) {
+                System.arraycopy(LIKED_VALUE, 0, patched, likedFlagOffsets[i], LIKED_VALUE.length);
+            }
+        }
+        return patched;
+    }
+
+    private static int[] findLikedFlagOffsets(byte[] json, int expected) {
+        int[] offsets = new int[expected];
+        int found = 0;
+        for (int i = 0; i <= json.length - LIKED_FLAG.length && found < expected; i++) {
+            if (matchesAt(json, i)) {
+                offsets[found++] = i + LIKED_VALUE_OFFSET;
+                i += LIKED_FLAG.length - 1;
+            }
+        }
+        // 문자열 값 내부의 따옴표는 이스케이프되므로 게시글 수와 일치하지 않으면 직렬화 형식이 바뀐 것
+        if (found != expected) {
+            throw new IllegalStateException("likedByMe flags not found in serialized feed page");
+        }
+        return offsets;
+    }
+
+    private static boolean matchesAt(byte[] json, int index) {
+        for (int j = 0; j < LIKED_FLAG.length; j++) {
+            if (json[index + j] != LIKED_FLAG[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
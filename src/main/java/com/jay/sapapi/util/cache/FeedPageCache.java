@@ -0,0 +1,55 @@
+package com.jay.sapapi.util.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class FeedPageCache {
+
+    // 첫 페이지만 페이지 크기별로 저장
+    private final BoundedCache<Integer, CachedFeedPage> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public FeedPageCache(@Value("${post.feed-cache.max-entries}") int maxEntries,
+                         @Value("${post.feed-cache.ttl}") long ttlMillis) {
+        this.cache = new BoundedCache<>(maxEntries, ttlMillis);
+    }
+
+    public CachedFeedPage get(int size) {
+        return cache.get(size);
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public synchronized void put(int size, long readGeneration, CachedFeedPage page) {
+        // 조회 도중 무효화가 일어났다면 이미 낡은 페이지이므로 저장하지 않음
+        if (generation.get() == readGeneration) {
+            cache.put(size, page);
+        }
+    }
+
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private synchronized void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.jay.sapapi.util.cache;
+
+import com.jay.sapapi.dto.image.ImageMetadataDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 내용 해시로 저장된 파일의 메타데이터 (내용이 바뀌지 않으므로 만료 없이 삭제 또는 기록 시에만 무효화)
+@Component
+public class ImageMetadataCache {
+
+    private final BoundedCache<String, ImageMetadataDTO> cache;
+
+    // 메타데이터가 없는 파일 (기록 이전 파일 등), 매번 DB 를 조회하지 않도록 짧게 기억
+    private final BoundedCache<String, Boolean> misses;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public ImageMetadataCache(@Value("${image.metadata.cache.max-entries}") int maxEntries,
+                              @Value("${image.metadata.cache.miss-ttl}") long missTtlMillis) {
+        this.cache = new BoundedCache<>(maxEntries, 0);
+        this.misses = new BoundedCache<>(maxEntries, missTtlMillis);
+    }
+
+    public ImageMetadataDTO get(String fileName) {
+        return cache.get(fileName);
+    }
+
+    public boolean isKnownMiss(String fileName) {
+        return misses.get(fileName) != null;
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public synchronized void put(long readGeneration, ImageMetadataDTO metadata) {
+        // 조회 도중 삭제되었다면 저장하지 않음
+        if (generation.get() == readGeneration) {
+            cache.put(metadata.getFileName(), metadata);
+        }
+    }
+
+    public synchronized void putMiss(long readGeneration, String fileName) {
+        if (generation.get() == readGeneration) {
+            misses.put(fileName, Boolean.TRUE);
+        }
+    }
+
+    public synchronized void invalidate(String fileName) {
+        generation.incrementAndGet();
+        cache.invalidate(fileName);
+        misses.invalidate(fileName);
+    }
+
+}
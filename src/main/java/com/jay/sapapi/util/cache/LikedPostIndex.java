@@ -0,0 +1,117 @@
+package com.jay.sapapi.util.cache;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class LikedPostIndex {
+
+    // 좋아요가 상한을 넘는 회원 표시 (인덱스에 올리지 않고 페이지 단위로 조회하도록)
+    public static final Roaring64Bitmap OVER_LIMIT = new Roaring64Bitmap();
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final BoundedCache<Long, Roaring64Bitmap> cache;
+
+    // 회원별(해시 조각별) 세대, 다른 회원의 좋아요 변경으로 적재가 버려지지 않도록 함
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public LikedPostIndex(@Value("${post.liked-index.max-users}") int maxUsers,
+                          @Value("${post.liked-index.ttl}") long ttlMillis) {
+        this.cache = new BoundedCache<>(maxUsers, ttlMillis);
+    }
+
+    public Roaring64Bitmap get(Long userId) {
+        return cache.get(userId);
+    }
+
+    public long currentGeneration(Long userId) {
+        return generations.get(stripeOf(userId));
+    }
+
+    public synchronized void put(Long userId, long readGeneration, Collection<Long> likedPostIds) {
+        // 적재 도중 좋아요 변경이 있었다면 누락된 변경이 있을 수 있으므로 저장하지 않음
+        if (generations.get(stripeOf(userId)) != readGeneration) {
+            return;
+        }
+        Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        likedPostIds.forEach(bitmap::addLong);
+        cache.put(userId, bitmap);
+    }
+
+    public synchronized void putOverLimit(Long userId, long readGeneration) {
+        if (generations.get(stripeOf(userId)) == readGeneration) {
+            cache.put(userId, OVER_LIMIT);
+        }
+    }
+
+    public void markLiked(Long userId, Long postId) {
+        applyAfterCommit(userId, postId, true);
+    }
+
+    public void markUnliked(Long userId, Long postId) {
+        applyAfterCommit(userId, postId, false);
+    }
+
+    private void applyAfterCommit(Long userId, Long postId, boolean liked) {
+        bump(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        apply(userId, postId, liked);
+                    } else {
+                        invalidate(userId);
+                    }
+                }
+            });
+        } else {
+            apply(userId, postId, liked);
+        }
+    }
+
+    private synchronized void apply(Long userId, Long postId, boolean liked) {
+        bump(userId);
+        Roaring64Bitmap current = cache.get(userId);
+        if (current == null) {
+            return;
+        }
+        if (current == OVER_LIMIT) {
+            // 좋아요 취소로 상한 아래로 내려갔을 수 있으므로 다시 적재하도록 함
+            if (!liked) {
+                cache.invalidate(userId);
+            }
+            return;
+        }
+        // 조회 스레드가 잠금 없이 읽을 수 있도록 복사본을 수정한 뒤 교체
+        Roaring64Bitmap updated = new Roaring64Bitmap();
+        updated.or(current);
+        if (liked) {
+            updated.addLong(postId);
+        } else {
+            updated.removeLong(postId);
+        }
+        cache.put(userId, updated);
+    }
+
+    private synchronized void invalidate(Long userId) {
+        bump(userId);
+        cache.invalidate(userId);
+    }
+
+    private void bump(Long userId) {
+        generations.incrementAndGet(stripeOf(userId));
+    }
+
+    private static int stripeOf(Long userId) {
+        return (int) (userId ^ (userId >>> 32)) & (GENERATION_STRIPES - 1);
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.jay.sapapi.util.cache;
+
+import com.jay.sapapi.util.sketch.BloomFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+@Component
+public class MemberExistenceFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private static final long MIN_EXPECTED_MEMBERS = 10_000L;
+
+    private volatile Filters current;
+
+    private volatile Filters building;
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return filters == null || filters.emails.mightContain(normalize(email));
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        Filters filters = current;
+        return filters == null || filters.nicknames.mightContain(normalize(nickname));
+    }
+
+    public void add(String email, String nickname) {
+        put(email, nickname);
+        // 재구성 중 커밋된 회원이 새 필터에서 누락되지 않도록 커밋 이후에 한 번 더 반영
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(email, nickname);
+                }
+            });
+        }
+    }
+
+    public synchronized void beginRebuild(long memberCount) {
+        long expected = Math.max(memberCount * 2, MIN_EXPECTED_MEMBERS);
+        building = new Filters(new BloomFilter(expected, FALSE_POSITIVE_RATE), new BloomFilter(expected, FALSE_POSITIVE_RATE));
+    }
+
+    public void addToRebuild(String email, String nickname) {
+        Filters filters = building;
+        if (filters != null) {
+            filters.put(email, nickname);
+        }
+    }
+
+    public synchronized void completeRebuild() {
+        if (building != null) {
+            current = building;
+            building = null;
+        }
+    }
+
+    public synchronized void abortRebuild() {
+        building = null;
+    }
+
+    private void put(String email, String nickname) {
+        // 재구성 중인 필터를 먼저 확인해야 교체 직후의 추가가 이전 필터에만 반영되는 일을 막을 수 있음
+        Filters rebuilding = building;
+        if (rebuilding != null) {
+            rebuilding.put(email, nickname);
+        }
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(email, nickname);
+        }
+    }
+
+    // DB 콜레이션처럼 대소문자와 악센트를 구분하지 않도록 정규화
+    private static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter nicknames) {
+
+        void put(String email, String nickname) {
+            if (email != null) {
+                emails.put(normalize(email));
+            }
+            if (nickname != null) {
+                nicknames.put(normalize(nickname));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.jay.sapapi.util.cache;
+
+import com.jay.sapapi.dto.member.response.MemberSummaryDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class MemberSummaryCache {
+
+    private final BoundedCache<Long, MemberSummaryDTO> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemberSummaryCache(@Value("${member.summary-cache.max-entries}") int maxEntries,
+                              @Value("${member.summary-cache.ttl}") long ttlMillis) {
+        this.cache = new BoundedCache<>(maxEntries, ttlMillis);
+    }
+
+    public MemberSummaryDTO get(Long userId) {
+        return cache.get(userId);
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public synchronized void put(long readGeneration, MemberSummaryDTO summary) {
+        // 조회 도중 회원 정보가 바뀌었다면 낡은 값일 수 있으므로 저장하지 않음
+        if (generation.get() == readGeneration) {
+            cache.put(summary.getId(), summary);
+        }
+    }
+
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    private synchronized void evict(Long userId) {
+        generation.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+}
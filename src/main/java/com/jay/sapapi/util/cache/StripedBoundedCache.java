@@ -0,0 +1,39 @@
+package com.jay.sapapi.util.cache;
+
+// 키 해시로 나눈 여러 BoundedCache, 요청마다 조회되는 캐시가 하나의 모니터에 몰리지 않도록 함
+public class StripedBoundedCache<K, V> {
+
+    private static final int STRIPES = 16;
+
+    private final BoundedCache<K, V>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public StripedBoundedCache(int maxEntries, long ttlMillis) {
+        this.stripes = new BoundedCache[STRIPES];
+        // 전체 상한을 조각마다 나누어 가짐 (0 이면 저장하지 않음)
+        int stripeMaxEntries = maxEntries > 0 ? Math.max(1, maxEntries / STRIPES) : 0;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new BoundedCache<>(stripeMaxEntries, ttlMillis);
+        }
+    }
+
+    public V get(K key) {
+        return stripeOf(key).get(key);
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        stripeOf(key).put(key, value, expiresAtMillis);
+    }
+
+    public void invalidateAll() {
+        for (BoundedCache<K, V> stripe : stripes) {
+            stripe.invalidateAll();
+        }
+    }
+
+    private BoundedCache<K, V> stripeOf(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+}
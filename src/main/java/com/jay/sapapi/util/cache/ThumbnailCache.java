@@ -0,0 +1,69 @@
+package com.jay.sapapi.util.cache;
+
+import com.jay.sapapi.dto.image.ImageFileDTO;
+import com.jay.sapapi.dto.image.ImageType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 자주 조회되는 썸네일의 바이트와 메타데이터 (바이트 합으로 크기 제한)
+@Component
+public class ThumbnailCache {
+
+    private final BoundedCache<String, ImageFileDTO> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public ThumbnailCache(@Value("${image.thumbnail.cache.max-entries}") int maxEntries,
+                          @Value("${image.thumbnail.cache.max-bytes}") long maxBytes,
+                          MeterRegistry meterRegistry) {
+        this.cache = new BoundedCache<>(maxEntries, 0, maxBytes, file -> file.getContent().length);
+
+        FunctionCounter.builder("image.thumbnail.cache.hits", cache, BoundedCache::getHitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("image.thumbnail.cache.misses", cache, BoundedCache::getMissCount)
+                .register(meterRegistry);
+        Gauge.builder("image.thumbnail.cache.hit.ratio", cache, ThumbnailCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("image.thumbnail.cache.size", cache, BoundedCache::weight)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("image.thumbnail.cache.entries", cache, BoundedCache::size)
+                .register(meterRegistry);
+    }
+
+    // 썸네일 파일명(종류별 접두어 포함)으로 조회
+    public ImageFileDTO get(String thumbnailName) {
+        return cache.get(thumbnailName);
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public synchronized void put(String thumbnailName, long readGeneration, ImageFileDTO file) {
+        // 읽는 도중 삭제되었다면 저장하지 않음
+        if (generation.get() == readGeneration) {
+            cache.put(thumbnailName, file);
+        }
+    }
+
+    // 원본 파일명으로 모든 종류의 썸네일을 무효화
+    public synchronized void invalidate(String fileName) {
+        generation.incrementAndGet();
+        for (ImageType imageType : ImageType.values()) {
+            cache.invalidate(imageType.thumbnailName(fileName));
+        }
+    }
+
+    private static double hitRatio(BoundedCache<?, ?> cache) {
+        long hits = cache.getHitCount();
+        long total = hits + cache.getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.jay.sapapi.util.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+// 초당 허용 횟수를 일정한 간격으로 나누어, 간격이 지나기 전의 호출은 잠시 대기 (단일 스레드용)
+public class IntervalRateLimiter {
+
+    private final long intervalNanos;
+
+    private long nextPermitAt;
+
+    public IntervalRateLimiter(int permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0;
+        this.nextPermitAt = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long wait = nextPermitAt - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            nextPermitAt += intervalNanos;
+        } else {
+            // 한동안 호출이 없었다면 밀린 허용치를 몰아서 쓰지 않음
+            nextPermitAt = now + intervalNanos;
+        }
+    }
+
+}
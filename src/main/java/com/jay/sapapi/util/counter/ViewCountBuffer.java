@@ -0,0 +1,102 @@
+package com.jay.sapapi.util.counter;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        add(postId, 1L);
+    }
+
+    public long getPendingCount(Long postId) {
+        Counter counter = counters.get(postId);
+        return counter != null ? counter.get() : 0L;
+    }
+
+    public SortedMap<Long, Long> drain() {
+        SortedMap<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            long delta = counter.drain();
+            if (delta > 0) {
+                deltas.put(entry.getKey(), delta);
+            } else if (counter.retire()) {
+                // 직전 주기 이후 조회가 없었던 게시글의 카운터는 폐기 후 맵에서 제거
+                counters.remove(entry.getKey(), counter);
+            }
+        }
+        return deltas;
+    }
+
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    private void add(Long postId, long delta) {
+        while (true) {
+            Counter counter = counters.get(postId);
+            if (counter == null || counter.isRetired()) {
+                counter = counters.compute(postId, (key, current) ->
+                        current == null || current.isRetired() ? new Counter() : current);
+            }
+            // 그 사이 폐기되었으면 새 카운터로 다시 시도
+            if (counter.add(delta)) {
+                return;
+            }
+        }
+    }
+
+    // 0 일 때만 폐기할 수 있어, 더한 값이 제거된 카운터에 남아 사라지는 일이 없음
+    private static final class Counter {
+
+        private static final long RETIRED = -1L;
+
+        private final AtomicLong count = new AtomicLong();
+
+        boolean add(long delta) {
+            long current;
+            do {
+                current = count.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+            } while (!count.compareAndSet(current, current + delta));
+            return true;
+        }
+
+        long get() {
+            long current = count.get();
+            return current == RETIRED ? 0L : current;
+        }
+
+        long drain() {
+            long current;
+            do {
+                current = count.get();
+                if (current == RETIRED || current == 0L) {
+                    return 0L;
+                }
+            } while (!count.compareAndSet(current, 0L));
+            return current;
+        }
+
+        boolean retire() {
+            return count.compareAndSet(0L, RETIRED);
+        }
+
+        boolean isRetired() {
+            return count.get() == RETIRED;
+        }
+
+    }
+
+}
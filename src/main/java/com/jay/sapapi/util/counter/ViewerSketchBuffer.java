@@ -0,0 +1,145 @@
+package com.jay.sapapi.util.counter;
+
+import com.jay.sapapi.util.sketch.HyperLogLog;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Log4j2
+public class ViewerSketchBuffer {
+
+    private final ConcurrentHashMap<Long, Slot> sketches = new ConcurrentHashMap<>();
+
+    // 게시글당 스케치가 수 KB 이므로 버퍼에 담는 게시글 수를 제한 (삽입 전에 자리를 예약)
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    private final int maxPosts;
+
+    public ViewerSketchBuffer(@Value("${post.viewer-sketch.max-posts}") int maxPosts) {
+        this.maxPosts = maxPosts;
+    }
+
+    public void offer(Long postId, String viewerKey) {
+        while (true) {
+            Slot slot = sketches.get(postId);
+            if (slot == null) {
+                slot = insert(postId, new Slot(new HyperLogLog()));
+                if (slot == null) {
+                    log.debug("Viewer sketch buffer full, dropped view of post {}", postId);
+                    return;
+                }
+            }
+            // 레지스터 갱신은 스케치의 CAS 로 처리하고, 꺼내가는 중인 스케치에는 쓰지 않음
+            if (slot.enter()) {
+                try {
+                    slot.sketch.offer(viewerKey);
+                } finally {
+                    slot.exit();
+                }
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public SortedMap<Long, HyperLogLog> drain() {
+        SortedMap<Long, HyperLogLog> drained = new TreeMap<>();
+        for (Map.Entry<Long, Slot> entry : sketches.entrySet()) {
+            Slot slot = entry.getValue();
+            // 새 기록을 막고 진행 중인 기록이 끝나길 기다린 뒤 맵에서 떼어 넘김
+            slot.close();
+            if (sketches.remove(entry.getKey(), slot)) {
+                reserved.decrementAndGet();
+                drained.put(entry.getKey(), slot.sketch);
+            }
+        }
+        return drained;
+    }
+
+    public void restore(Long postId, HyperLogLog sketch) {
+        while (true) {
+            Slot slot = sketches.get(postId);
+            if (slot == null) {
+                if (insert(postId, new Slot(sketch)) == null) {
+                    log.warn("Viewer sketch buffer full, sketch of post {} not restored", postId);
+                }
+                return;
+            }
+            if (slot.enter()) {
+                try {
+                    slot.sketch.merge(sketch);
+                } finally {
+                    slot.exit();
+                }
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    // 자리를 예약한 뒤 넣고, 다른 스레드가 먼저 넣었으면 예약을 돌려줌 (가득 차 있으면 null)
+    private Slot insert(Long postId, Slot created) {
+        int current;
+        do {
+            current = reserved.get();
+            if (current >= maxPosts) {
+                return null;
+            }
+        } while (!reserved.compareAndSet(current, current + 1));
+
+        Slot existing = sketches.putIfAbsent(postId, created);
+        if (existing != null) {
+            reserved.decrementAndGet();
+            return existing;
+        }
+        return created;
+    }
+
+    // 기록 중인 스레드 수를 세고, 닫히면 더 이상 기록을 받지 않는 스케치
+    private static final class Slot {
+
+        private static final int CLOSED = 1 << 30;
+
+        private final HyperLogLog sketch;
+
+        private final AtomicInteger state = new AtomicInteger();
+
+        Slot(HyperLogLog sketch) {
+            this.sketch = sketch;
+        }
+
+        boolean enter() {
+            int current;
+            do {
+                current = state.get();
+                if ((current & CLOSED) != 0) {
+                    return false;
+                }
+            } while (!state.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void exit() {
+            state.decrementAndGet();
+        }
+
+        void close() {
+            int current;
+            do {
+                current = state.get();
+            } while ((current & CLOSED) == 0 && !state.compareAndSet(current, current | CLOSED));
+            while (state.get() != CLOSED) {
+                Thread.onSpinWait();
+            }
+        }
+
+    }
+
+}
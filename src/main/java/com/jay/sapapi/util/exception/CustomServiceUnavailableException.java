@@ -0,0 +1,9 @@
+package com.jay.sapapi.util.exception;
+
+public class CustomServiceUnavailableException extends RuntimeException {
+
+    public CustomServiceUnavailableException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.jay.sapapi.util.sketch;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+public class HyperLogLog {
+
+    public static final int PRECISION = 12;
+
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private static final VarHandle REGISTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTER_COUNT) {
+            return new HyperLogLog();
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public void offer(String value) {
+        offerHash(SketchHashing.hash64(value));
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            raise(i, (byte) REGISTERS.getVolatile(other.registers, i));
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeroRegisters = 0;
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            int rank = (byte) REGISTERS.getVolatile(registers, i);
+            sum += 1.0 / (1L << rank);
+            if (rank == 0) {
+                zeroRegisters++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // 카디널리티가 작을 때는 linear counting으로 보정
+        if (estimate <= 2.5 * REGISTER_COUNT && zeroRegisters > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        byte[] copy = new byte[REGISTER_COUNT];
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            copy[i] = (byte) REGISTERS.getVolatile(registers, i);
+        }
+        return copy;
+    }
+
+    private void offerHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        raise(index, (byte) (Long.numberOfLeadingZeros(remaining) + 1));
+    }
+
+    private void raise(int index, byte rank) {
+        byte current;
+        do {
+            current = (byte) REGISTERS.getVolatile(registers, index);
+            if (current >= rank) {
+                return;
+            }
+        } while (!REGISTERS.compareAndSet(registers, index, current, rank));
+    }
+
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -124,13 +125,28 @@ public class CommentRepositoryTests {
         }
 
         @Test
-        @DisplayName("JOIN FETCH 쿼리를 사용하여 @Transactional 없이 게시글 Id로 댓글 리스트 조회")
+        @DisplayName("@Transactional 없이 게시글 Id로 댓글 리스트 조회")
         public void testReadListByPost() {
-            List<Comment> comments = commentRepository.getCommentsByPostOrderById(Post.builder().id(postId).build());
+            List<Comment> comments = commentRepository.getCommentsByPostId(postId);
             comments.forEach(log::info);
             Assertions.assertEquals(COMMENT_COUNT, comments.size());
         }
 
+        @Test
+        @DisplayName("커서 이후의 댓글 조회")
+        public void testReadListAfterCursor() {
+            List<Comment> firstPage = commentRepository.getCommentsAfter(postId, 0L, PageRequest.of(0, 2));
+            Assertions.assertEquals(2, firstPage.size());
+
+            Long cursor = firstPage.get(firstPage.size() - 1).getId();
+            List<Comment> rest = commentRepository.getCommentsAfter(postId, cursor, PageRequest.of(0, COMMENT_COUNT));
+            Assertions.assertEquals(COMMENT_COUNT - 2, rest.size());
+            rest.forEach(comment -> {
+                Assertions.assertTrue(comment.getId() > cursor);
+                Assertions.assertNotNull(comment.getCommenter().getId());
+            });
+        }
+
     }
 
     @Nested
@@ -148,7 +164,7 @@ public class CommentRepositoryTests {
         @Test
         @DisplayName("게시글 삭제 시 댓글 삭제")
         public void testDeleteByPostDelete() {
-            List<Comment> comments = commentRepository.getCommentsByPostOrderById(Post.builder().id(postId).build());
+            List<Comment> comments = commentRepository.getCommentsByPostId(postId);
             postRepository.deleteById(postId);
             comments.forEach(comment -> {
                 Optional<Comment> result = commentRepository.findById(comment.getId());
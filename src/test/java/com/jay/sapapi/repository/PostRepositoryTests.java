@@ -20,7 +20,6 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -132,15 +131,12 @@ public class PostRepositoryTests {
         @Test
         @DisplayName("JOIN FETCH 쿼리를 사용하여 @Transactional 없이 Id로 게시글 조회")
         public void testReadWithoutTransactional() {
-            Object result = postRepository.getPostByPostId(postId);
-            Object[] arr = (Object[]) result;
-            log.info(Arrays.toString(arr));
-
-            Post post = (Post) arr[0];
+            Optional<Post> result = postRepository.getPostByPostId(postId);
+            Post post = result.orElseThrow();
             Assertions.assertEquals(title, post.getTitle());
             Assertions.assertEquals(content, post.getContent());
 
-            Member writer = (Member) arr[1];
+            Member writer = post.getWriter();
             Assertions.assertEquals(member.toString(), writer.toString());
         }
 
@@ -163,25 +159,24 @@ public class PostRepositoryTests {
         @Test
         @DisplayName("JOIN FETCH 쿼리를 사용하여 @Transactional 없이 모든 게시글 조회")
         public void testReadAllWithoutTransactional() {
-            List<Object> result = postRepository.getAllPosts();
-            Assertions.assertEquals(POST_COUNT, result.size());
-            result.forEach(arr -> {
-                Object[] entity = (Object[]) arr;
+            postRepository.recalculateCounters(0L, Long.MAX_VALUE);
 
-                Post post = (Post) entity[0];
+            List<Post> result = postRepository.getAllPosts();
+            Assertions.assertEquals(POST_COUNT, result.size());
+            result.forEach(post -> {
                 Assertions.assertEquals(title, post.getTitle());
                 Assertions.assertEquals(content, post.getContent());
 
-                Member writer = (Member) entity[1];
+                Member writer = post.getWriter();
                 Assertions.assertEquals(member.toString(), writer.toString());
 
-                Long commentsCount = (Long) entity[2];
+                Long commentsCount = post.getCommentCount();
                 Assertions.assertEquals(COMMENT_COUNT, commentsCount);
-                log.info("Comments Count: {}", entity[2]);
+                log.info("Comments Count: {}", commentsCount);
 
-                Long heartsCount = (Long) entity[3];
+                Long heartsCount = post.getLikeCount();
                 Assertions.assertEquals(1, heartsCount);
-                log.info("Hearts Count: {}", entity[3]);
+                log.info("Hearts Count: {}", heartsCount);
             });
         }
 
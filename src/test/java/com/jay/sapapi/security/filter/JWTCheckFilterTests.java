@@ -0,0 +1,118 @@
+package com.jay.sapapi.security.filter;
+
+import com.jay.sapapi.security.dto.AuthenticatedMember;
+import com.jay.sapapi.util.JWTUtil;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("JWTCheckFilterTests")
+public class JWTCheckFilterTests {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    private final JWTCheckFilter filter = new JWTCheckFilter();
+
+    private String accessToken;
+
+    @BeforeAll
+    public void setup() {
+        accessToken = JWTUtil.generateToken(Map.of(
+                "id", 1L,
+                "email", "sample@example.com",
+                "nickname", "sample",
+                "profileImageUrl", "sample.png",
+                "role", "USER"), 10);
+    }
+
+    @AfterEach
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("인증 처리")
+    class Authenticate {
+
+        @Test
+        @DisplayName("공개 경로 판별")
+        public void testShouldNotFilter() {
+            Assertions.assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/")));
+            Assertions.assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/api/users/1")));
+            Assertions.assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("POST", "/api/auth/tokens")));
+            Assertions.assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("PUT", "/api/auth/tokens")));
+            Assertions.assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("OPTIONS", "/api/posts/")));
+
+            Assertions.assertFalse(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/api/posts/")));
+            Assertions.assertFalse(filter.shouldNotFilter(new MockHttpServletRequest("POST", "/api/images/1")));
+            Assertions.assertFalse(filter.shouldNotFilter(new MockHttpServletRequest("PUT", "/api/users/1")));
+        }
+
+        @Test
+        @DisplayName("유효한 토큰")
+        public void testValidToken() throws Exception {
+            MockHttpServletRequest request = bearerRequest(accessToken);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilterInternal(request, response, NOOP_CHAIN);
+
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            Assertions.assertNotNull(authentication);
+            AuthenticatedMember principal = (AuthenticatedMember) authentication.getPrincipal();
+            Assertions.assertEquals(1L, principal.getUserId());
+            Assertions.assertEquals("sample@example.com", principal.getEmail());
+            Assertions.assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+            Assertions.assertEquals(200, response.getStatus());
+        }
+
+        @Test
+        @DisplayName("검증된 토큰은 다시 파싱하지 않고 Member 없이 인증")
+        public void testCachedTokenSkipsParsing() throws Exception {
+            // 캐시 적중이면 처음 검증할 때 만든 claims 를 그대로 돌려줌
+            Map<String, Object> claims = JWTUtil.validateToken(accessToken);
+            Assertions.assertSame(claims, JWTUtil.validateToken(accessToken));
+
+            filter.doFilterInternal(bearerRequest(accessToken), new MockHttpServletResponse(), NOOP_CHAIN);
+            Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            Assertions.assertInstanceOf(AuthenticatedMember.class, principal);
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 토큰")
+        public void testInvalidToken() throws Exception {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilterInternal(bearerRequest("invalid"), response, NOOP_CHAIN);
+
+            Assertions.assertEquals(401, response.getStatus());
+            Assertions.assertEquals("{\"message\":\"invalidToken\"}", response.getContentAsString());
+            Assertions.assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+            MockHttpServletResponse missing = new MockHttpServletResponse();
+            filter.doFilterInternal(new MockHttpServletRequest("GET", "/api/posts/"), missing, NOOP_CHAIN);
+            Assertions.assertEquals(401, missing.getStatus());
+        }
+
+    }
+
+    private MockHttpServletRequest bearerRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+}
@@ -5,6 +5,7 @@ import com.jay.sapapi.domain.MemberRole;
 import com.jay.sapapi.dto.comment.request.CommentCreateRequestDTO;
 import com.jay.sapapi.dto.comment.request.CommentModifyRequestDTO;
 import com.jay.sapapi.dto.comment.response.CommentResponseDTO;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
 import com.jay.sapapi.dto.member.request.MemberSignupRequestDTO;
 import com.jay.sapapi.dto.post.request.PostCreateRequestDTO;
 import jakarta.validation.ConstraintViolationException;
@@ -120,6 +121,56 @@ public class CommentServiceTests {
             Assertions.assertEquals(COMMENT_COUNT, result.size());
         }
 
+        @Test
+        @DisplayName("다음 페이지 요청 전에 커서 댓글이 삭제된 경우")
+        public void testGetPageByPostIdAfterCursorRemoved() {
+            List<Long> commentIds = commentService.getPageByPostId(postId, null, COMMENT_COUNT).getItems().stream()
+                    .map(CommentResponseDTO::getId)
+                    .toList();
+            Assertions.assertEquals(COMMENT_COUNT, commentIds.size());
+
+            CursorPageResponseDTO<CommentResponseDTO> first = commentService.getPageByPostId(postId, null, 2);
+            Assertions.assertTrue(first.isHasNext());
+            Assertions.assertEquals(commentIds.get(1), first.getNextCursor());
+
+            commentService.remove(first.getNextCursor());
+
+            CursorPageResponseDTO<CommentResponseDTO> second = commentService.getPageByPostId(postId, first.getNextCursor(), 2);
+            Assertions.assertEquals(commentIds.subList(2, 4),
+                    second.getItems().stream().map(CommentResponseDTO::getId).toList());
+            Assertions.assertTrue(second.isHasNext());
+
+            CursorPageResponseDTO<CommentResponseDTO> last = commentService.getPageByPostId(postId, second.getNextCursor(), 2);
+            Assertions.assertEquals(List.of(commentIds.get(4)),
+                    last.getItems().stream().map(CommentResponseDTO::getId).toList());
+            Assertions.assertFalse(last.isHasNext());
+            Assertions.assertNull(last.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("페이지 크기가 남은 댓글 수와 같으면 다음 페이지 없음")
+        public void testGetPageByPostIdExactLastPage() {
+            CursorPageResponseDTO<CommentResponseDTO> page = commentService.getPageByPostId(postId, null, COMMENT_COUNT);
+            Assertions.assertEquals(COMMENT_COUNT, page.getItems().size());
+            Assertions.assertFalse(page.isHasNext());
+            Assertions.assertNull(page.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 게시글의 댓글 페이지 조회")
+        public void testGetPageByInvalidPostId() {
+            NoSuchElementException e = Assertions.assertThrows(NoSuchElementException.class, () -> commentService.getPageByPostId(0L, null, 10));
+            Assertions.assertEquals("postNotFound", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("댓글 등록 및 삭제 시 게시글 댓글 수 갱신")
+        public void testCommentCount() {
+            Assertions.assertEquals(COMMENT_COUNT, postService.get(postId).getCommentCount());
+            commentService.remove(commentId);
+            Assertions.assertEquals(COMMENT_COUNT - 1, postService.get(postId).getCommentCount());
+        }
+
     }
 
     @Nested
@@ -1,7 +1,16 @@
 package com.jay.sapapi.service;
 
 import com.jay.sapapi.dto.image.ImageDTO;
+import com.jay.sapapi.dto.image.ImageFileDTO;
+import com.jay.sapapi.dto.image.ImageMetadataDTO;
 import com.jay.sapapi.dto.image.ImageType;
+import com.jay.sapapi.dto.image.ThumbnailStatus;
+import com.jay.sapapi.domain.Member;
+import com.jay.sapapi.migration.UploadShardMigration;
+import com.jay.sapapi.repository.MemberRepository;
+import com.jay.sapapi.scheduler.OrphanImageSweepScheduler;
+import com.jay.sapapi.util.CustomFileUtil;
+import com.jay.sapapi.util.exception.CustomValidationException;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -12,15 +21,32 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 @SpringBootTest
 @Log4j2
@@ -31,6 +57,18 @@ public class ImageServiceTests {
     @Autowired
     private ImageService imageService;
 
+    @Autowired
+    private CustomFileUtil fileUtil;
+
+    @Autowired
+    private OrphanImageSweepScheduler orphanImageSweepScheduler;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private String fileName;
 
     @BeforeAll
@@ -64,18 +102,20 @@ public class ImageServiceTests {
         Assertions.assertNotNull(fileName, "Registered file name should not be null");
         Assertions.assertFalse(fileName.isEmpty(), "Registered file name should not be empty");
 
+        // 썸네일은 비동기로 생성되므로 다른 테스트 전에 완료를 기다림
+        awaitThumbnail(fileName);
     }
 
     @AfterAll
     public void cleanup() throws IOException {
         Path directory = Paths.get("upload/test");
         if (Files.exists(directory)) {
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
-                for (Path entry : stream) {
+            // 샤딩된 하위 디렉터리까지 삭제
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path entry : paths.sorted(Comparator.reverseOrder()).toList()) {
                     Files.delete(entry);
                 }
             }
-            Files.delete(directory);
         }
     }
 
@@ -87,11 +127,442 @@ public class ImageServiceTests {
         Assertions.assertTrue(result.containsKey("fileContent"), "Result should contain the fileContent");
     }
 
+    @Test
+    @DisplayName("원본 파일 조회 테스트")
+    public void testGetImageFile() throws IOException {
+        ImageFileDTO imageFile = imageService.getImageFile(fileName);
+        Assertions.assertEquals(Files.size(imageFile.getPath()), imageFile.getContentLength());
+        Assertions.assertEquals("image/png", imageFile.getContentType());
+        Assertions.assertEquals("\"" + fileName + "\"", imageFile.getEtag());
+        Assertions.assertTrue(imageFile.isImmutable());
+
+        // 해시 앞 4자리로 샤딩된 위치 (ab/cd/<name>)
+        Path parent = imageFile.getPath().getParent();
+        Assertions.assertEquals(fileName.substring(2, 4), parent.getFileName().toString());
+        Assertions.assertEquals(fileName.substring(0, 2), parent.getParent().getFileName().toString());
+
+        ImageFileDTO thumbnailFile = imageService.getImageThumbnailFile(fileName, ImageType.PROFILE_IMAGE);
+        Assertions.assertTrue(thumbnailFile.getPath().getFileName().toString().startsWith("sp_"));
+        Assertions.assertTrue(thumbnailFile.isImmutable());
+
+        BufferedImage thumbnail = ImageIO.read(thumbnailFile.getPath().toFile());
+        Assertions.assertEquals(200, thumbnail.getWidth());
+        Assertions.assertEquals(200, thumbnail.getHeight());
+    }
+
+    @Test
+    @DisplayName("썸네일 상태 조회 테스트")
+    public void testThumbnailStatus() throws IOException {
+        String registered = registerUniqueImage();
+
+        // 생성 전에는 원본으로 대체
+        ImageFileDTO thumbnailFile = imageService.getImageThumbnailFile(registered, ImageType.POST_IMAGE);
+        Assertions.assertNotNull(thumbnailFile);
+
+        Assertions.assertEquals(ThumbnailStatus.READY, awaitThumbnail(registered));
+        Assertions.assertTrue(imageService.getImageThumbnailFile(registered, ImageType.POST_IMAGE).getPath().getFileName().toString().startsWith("s_"));
+        Assertions.assertThrows(NoSuchElementException.class, () -> imageService.getThumbnailStatus("notFound.png", null));
+    }
+
+    @Test
+    @DisplayName("같은 내용의 종류별 썸네일 테스트")
+    public void testThumbnailPerImageType() throws IOException {
+        byte[] content = uniqueImageContent();
+
+        // 게시글 이미지로 먼저 올린 내용을 프로필 이미지로 다시 올려도 프로필용 썸네일을 따로 생성
+        String posted = registerImage(content, ImageType.POST_IMAGE);
+        Assertions.assertEquals(ThumbnailStatus.READY, awaitThumbnail(posted));
+        String profiled = registerImage(content, ImageType.PROFILE_IMAGE);
+        Assertions.assertEquals(posted, profiled);
+        Assertions.assertEquals(ThumbnailStatus.READY, awaitThumbnail(profiled));
+
+        ImageFileDTO postThumbnail = imageService.getImageThumbnailFile(posted, ImageType.POST_IMAGE);
+        ImageFileDTO profileThumbnail = imageService.getImageThumbnailFile(posted, ImageType.PROFILE_IMAGE);
+        Assertions.assertEquals("s_" + posted, postThumbnail.getPath().getFileName().toString());
+        Assertions.assertEquals("sp_" + posted, profileThumbnail.getPath().getFileName().toString());
+
+        BufferedImage profileImage = ImageIO.read(profileThumbnail.getPath().toFile());
+        Assertions.assertEquals(200, profileImage.getWidth());
+        Assertions.assertEquals(200, profileImage.getHeight());
+
+        // 종류를 지정하지 않은 응답은 바뀔 수 있으므로 재검증 대상
+        Assertions.assertFalse(imageService.getImageThumbnailFile(posted, null).isImmutable());
+
+        imageService.removeImage(posted);
+        imageService.removeImage(profiled);
+        Assertions.assertFalse(Files.exists(postThumbnail.getPath()));
+        Assertions.assertFalse(Files.exists(profileThumbnail.getPath()));
+    }
+
+    @Test
+    @DisplayName("썸네일 캐시 테스트")
+    public void testThumbnailCache() throws IOException {
+        String registered = registerUniqueImage();
+        Assertions.assertEquals(ThumbnailStatus.READY, awaitThumbnail(registered));
+
+        ImageFileDTO first = imageService.getImageThumbnailFile(registered, ImageType.POST_IMAGE);
+        ImageFileDTO second = imageService.getImageThumbnailFile(registered, ImageType.POST_IMAGE);
+        Assertions.assertNotNull(first.getContent());
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(first.getContentLength(), first.getContent().length);
+
+        // 삭제하면 캐시에서도 제거
+        imageService.removeImage(registered);
+        Assertions.assertThrows(NoSuchElementException.class, () -> imageService.getImageThumbnailFile(registered, ImageType.POST_IMAGE));
+    }
+
+    @Test
+    @DisplayName("프로필 썸네일이 없으면 이전 이름(s_)의 썸네일로 대체")
+    public void testProfileThumbnailLegacyName() throws IOException {
+        // 접두어 도입 전 프로필 썸네일과 같이 s_ 썸네일만 있는 상태
+        String registered = registerUniqueImage();
+        Assertions.assertEquals(ThumbnailStatus.READY, awaitThumbnail(registered));
+
+        ImageFileDTO thumbnail = imageService.getImageThumbnailFile(registered, ImageType.PROFILE_IMAGE);
+        Assertions.assertEquals("s_" + registered, thumbnail.getPath().getFileName().toString());
+        Assertions.assertEquals(ThumbnailStatus.READY, imageService.getThumbnailStatus(registered, ImageType.PROFILE_IMAGE));
+
+        imageService.removeImage(registered);
+    }
+
+    @Test
+    @DisplayName("축소본 조회 테스트")
+    public void testGetImageVariantFile() throws Exception {
+        String registered = registerUniqueImage();
+        awaitThumbnail(registered);
+
+        // 동시에 요청해도 같은 축소본 하나만 생성하고, 준비되기 전에는 원본을 캐시 없이 제공
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ImageFileDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> imageService.getImageVariantFile(registered, 240)));
+            }
+            for (Future<ImageFileDTO> future : futures) {
+                ImageFileDTO served = future.get();
+                if (served.getPath().getFileName().toString().equals(registered)) {
+                    Assertions.assertFalse(served.isImmutable());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        ImageFileDTO variant = awaitVariant(registered, 240);
+        Assertions.assertEquals("w240_" + registered, variant.getPath().getFileName().toString());
+        Assertions.assertTrue(variant.isImmutable());
+
+        // 원본(800px)보다 넓은 축소본은 원본으로 대체
+        Assertions.assertEquals(registered, imageService.getImageVariantFile(registered, 800).getPath().getFileName().toString());
+        Assertions.assertThrows(CustomValidationException.class, () -> imageService.getImageVariantFile(registered, 333));
+
+        Path variantPath = imageService.getImageVariantFile(registered, 240).getPath();
+        imageService.removeImage(registered);
+        Assertions.assertFalse(Files.exists(variantPath));
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 테스트")
+    public void testRegisterImageStream() throws IOException {
+        byte[] content = Files.readAllBytes(Paths.get("upload/default.png"));
+        String registered = imageService.registerImageStream(new ByteArrayInputStream(content),
+                "image/png", content.length, ImageType.POST_IMAGE);
+
+        Assertions.assertEquals(fileName, registered, "Same content should be stored under the same name");
+        Assertions.assertArrayEquals(content, Files.readAllBytes(imageService.getImageFile(registered).getPath()));
+    }
+
+    @Test
+    @DisplayName("클라이언트 파일명과 무관한 확장자 테스트")
+    public void testRegisterIgnoresClientExtension() throws IOException {
+        // PNG 헤더 뒤에 HTML 을 붙여 .html 로 올려도 판별한 형식의 확장자로 저장
+        byte[] content = Files.readAllBytes(Paths.get("upload/default.png"));
+        byte[] html = "<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8);
+        byte[] polyglot = Arrays.copyOf(content, content.length + html.length);
+        System.arraycopy(html, 0, polyglot, content.length, html.length);
+
+        String registered = imageService.registerImage(ImageDTO.builder()
+                .file(new MockMultipartFile("file", "x.html", "text/html", polyglot))
+                .imageType(ImageType.POST_IMAGE)
+                .build());
+        Assertions.assertTrue(registered.endsWith(".png"));
+        Assertions.assertEquals("image/png", imageService.getImageFile(registered).getContentType());
+
+        // 이미지가 아니면 확장자 없이 저장
+        String text = imageService.registerImage(ImageDTO.builder()
+                .file(new MockMultipartFile("file", "x.html", "text/html", html))
+                .imageType(ImageType.POST_IMAGE)
+                .build());
+        Assertions.assertFalse(text.contains("."));
+
+        awaitThumbnail(registered);
+        imageService.removeImage(registered);
+        imageService.removeImage(text);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 실패 테스트")
+    public void testRegisterImageStreamRejected() throws IOException {
+        byte[] content = Files.readAllBytes(Paths.get("upload/default.png"));
+
+        // 선언한 형식과 실제 내용이 다름
+        Assertions.assertThrows(CustomValidationException.class, () -> imageService.registerImageStream(
+                new ByteArrayInputStream(content), "image/jpeg", content.length, ImageType.POST_IMAGE));
+        Assertions.assertThrows(CustomValidationException.class, () -> imageService.registerImageStream(
+                new ByteArrayInputStream(content), "text/plain", content.length, ImageType.POST_IMAGE));
+
+        // 길이를 모르는 요청은 읽는 도중 상한을 넘으면 중단
+        InputStream oversized = new InputStream() {
+            private final long limit = 26214400L + 1;
+            private long position;
+
+            @Override
+            public int read() {
+                byte[] one = new byte[1];
+                return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (position >= limit) {
+                    return -1;
+                }
+                int count = (int) Math.min(len, limit - position);
+                for (int i = 0; i < count; i++, position++) {
+                    b[off + i] = position < content.length ? content[(int) position] : 0;
+                }
+                return count;
+            }
+        };
+        Assertions.assertThrows(CustomValidationException.class, () -> imageService.registerImageStream(
+                oversized, "image/png", -1, ImageType.POST_IMAGE));
+
+        // 중단된 업로드의 임시 파일은 남지 않음
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get("upload/test"), "tmp_*")) {
+            Assertions.assertFalse(stream.iterator().hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("샤딩 이전 파일 조회 및 이동 테스트")
+    public void testShardMigration() throws IOException {
+        String legacyName = UUID.randomUUID() + "_legacy.png";
+        Path legacyPath = Paths.get("upload/test", legacyName).toAbsolutePath();
+        Files.copy(Paths.get("upload/default.png"), legacyPath);
+
+        // 이동 전에도 이전 위치에서 조회
+        Assertions.assertEquals(legacyPath, imageService.getImageFile(legacyName).getPath().toAbsolutePath());
+
+        UploadShardMigration migration = new UploadShardMigration(fileUtil);
+        ReflectionTestUtils.setField(migration, "parallelism", 2);
+        migration.migrate();
+
+        Path migratedPath = imageService.getImageFile(legacyName).getPath();
+        Assertions.assertFalse(Files.exists(legacyPath));
+        Assertions.assertNotEquals(legacyPath, migratedPath.toAbsolutePath());
+        Assertions.assertTrue(Files.isRegularFile(migratedPath));
+
+        imageService.removeImage(legacyName);
+        Assertions.assertFalse(Files.exists(migratedPath));
+    }
+
+    @Test
+    @DisplayName("참조되지 않는 이미지 정리 테스트")
+    public void testSweepOrphanImages() throws IOException, InterruptedException {
+        String orphan = registerUniqueImage();
+        String referenced = registerUniqueImage();
+        Assertions.assertEquals(ThumbnailStatus.READY, awaitThumbnail(orphan));
+        Assertions.assertEquals(ThumbnailStatus.READY, awaitThumbnail(referenced));
+
+        Member member = memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("Password1!")
+                .nickname(UUID.randomUUID().toString().substring(0, 10))
+                .profileImageUrl(referenced)
+                .build());
+
+        Path orphanPath = imageService.getImageFile(orphan).getPath();
+        Path orphanThumbnailPath = imageService.getImageThumbnailFile(orphan, ImageType.POST_IMAGE).getPath();
+        Path referencedPath = imageService.getImageFile(referenced).getPath();
+
+        // 유예 기간 없이 실행해 방금 올린 파일도 대상이 되도록 함
+        Thread.sleep(20);
+        ReflectionTestUtils.setField(orphanImageSweepScheduler, "gracePeriod", 0L);
+        try {
+            orphanImageSweepScheduler.sweep();
+        } finally {
+            ReflectionTestUtils.setField(orphanImageSweepScheduler, "gracePeriod", 86_400_000L);
+            memberRepository.delete(member);
+        }
+
+        Assertions.assertFalse(Files.exists(orphanPath));
+        Assertions.assertFalse(Files.exists(orphanThumbnailPath));
+        Assertions.assertTrue(Files.isRegularFile(referencedPath));
+
+        imageService.removeImage(referenced);
+    }
+
+    @Test
+    @DisplayName("유예 기간 내 이미지 유지 테스트")
+    public void testSweepKeepsRecentImages() throws IOException {
+        String recent = registerUniqueImage();
+        awaitThumbnail(recent);
+        Path recentPath = imageService.getImageFile(recent).getPath();
+
+        orphanImageSweepScheduler.sweep();
+
+        Assertions.assertTrue(Files.isRegularFile(recentPath));
+        imageService.removeImage(recent);
+    }
+
+    @Test
+    @DisplayName("업로드 시 기록한 메타데이터 조회 테스트")
+    public void testGetImageMetadata() throws IOException {
+        String registered = registerUniqueImage();
+        awaitThumbnail(registered);
+        BufferedImage source = ImageIO.read(Paths.get("upload/default.png").toFile());
+
+        Map<String, ImageMetadataDTO> result = imageService.getImageMetadata(List.of(registered, "notFound.png"));
+        Assertions.assertFalse(result.containsKey("notFound.png"));
+
+        ImageMetadataDTO metadata = result.get(registered);
+        Assertions.assertNotNull(metadata);
+        Assertions.assertEquals("image/png", metadata.getContentType());
+        Assertions.assertEquals(Integer.valueOf(source.getWidth()), metadata.getWidth());
+        Assertions.assertEquals(Integer.valueOf(source.getHeight()), metadata.getHeight());
+
+        // 원본 응답도 기록된 값으로 구성
+        ImageFileDTO imageFile = imageService.getImageFile(registered);
+        Assertions.assertEquals(Files.size(imageFile.getPath()), metadata.getContentLength());
+        Assertions.assertEquals(metadata.getContentLength(), imageFile.getContentLength());
+        Assertions.assertEquals(metadata.getLastModified(), imageFile.getLastModified());
+
+        imageService.removeImage(registered);
+        Assertions.assertTrue(imageService.getImageMetadata(List.of(registered)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("메타데이터는 있지만 파일이 사라진 경우 기본 이미지로 대체")
+    public void testGetImageFileMissingBlob() throws IOException {
+        String registered = registerUniqueImage();
+        awaitThumbnail(registered);
+        Assertions.assertNotNull(imageService.getImageMetadata(List.of(registered)).get(registered));
+
+        Files.delete(fileUtil.getShardedPath(registered));
+        Assertions.assertEquals("default.png", imageService.getImageFile(registered).getPath().getFileName().toString());
+        Assertions.assertNotNull(imageService.viewImage(registered).get("fileContent"));
+
+        imageService.removeImage(registered);
+    }
+
+    @Test
+    @DisplayName("메타데이터가 없는 파일과 같은 내용을 다시 올리면 메타데이터를 채움")
+    public void testBackfillMetadataOnDuplicateUpload() throws IOException {
+        byte[] content = uniqueImageContent();
+        String registered = registerImage(content, ImageType.POST_IMAGE);
+        awaitThumbnail(registered);
+
+        // 메타데이터 기록 이전에 저장된 파일과 같은 상태로 만듦
+        jdbcTemplate.update("UPDATE image_file SET content_type = NULL, content_length = NULL, width = NULL, height = NULL WHERE file_name = ?", registered);
+        Assertions.assertTrue(imageService.getImageMetadata(List.of(registered)).isEmpty());
+
+        Assertions.assertEquals(registered, registerImage(content, ImageType.POST_IMAGE));
+        ImageMetadataDTO metadata = imageService.getImageMetadata(List.of(registered)).get(registered);
+        Assertions.assertNotNull(metadata);
+        Assertions.assertEquals("image/png", metadata.getContentType());
+        Assertions.assertEquals(content.length, metadata.getContentLength());
+
+        imageService.removeImage(registered);
+        imageService.removeImage(registered);
+    }
+
+    @Test
+    @DisplayName("업로드 경로 밖의 파일 조회 실패 테스트")
+    public void testGetImageFileOutsideUploadPath() {
+        Assertions.assertThrows(NoSuchElementException.class, () -> imageService.getImageFile("../default.png"));
+    }
+
     @Test
     @DisplayName("삭제 테스트")
-    public void testRemove() {
-        imageService.removeImage(fileName);
-        Assertions.assertThrows(IOException.class, () -> imageService.viewImage(fileName));
+    public void testRemove() throws IOException {
+        String registered = registerUniqueImage();
+        awaitThumbnail(registered);
+
+        imageService.removeImage(registered);
+        Assertions.assertThrows(IOException.class, () -> imageService.viewImage(registered));
+    }
+
+    @Test
+    @DisplayName("같은 내용 중복 등록 테스트")
+    public void testRegisterDuplicate() throws IOException {
+        String registered = registerUniqueImage();
+        awaitThumbnail(registered);
+
+        MultipartFile sameContent = new MockMultipartFile(
+                "file",
+                "copy.png",
+                "image/png",
+                Files.readAllBytes(imageService.getImageFile(registered).getPath())
+        );
+        String duplicated = imageService.registerImage(ImageDTO.builder()
+                .file(sameContent)
+                .imageType(ImageType.POST_IMAGE)
+                .build());
+        Assertions.assertEquals(registered, duplicated);
+
+        // 참조가 남아 있으면 파일은 유지
+        imageService.removeImage(registered);
+        Assertions.assertNotNull(imageService.viewImage(registered));
+
+        imageService.removeImage(duplicated);
+        Assertions.assertThrows(IOException.class, () -> imageService.viewImage(registered));
+    }
+
+    // PNG 끝(IEND) 뒤에 임의 바이트를 붙여 내용이 다른 이미지를 등록
+    private String registerUniqueImage() throws IOException {
+        return registerImage(uniqueImageContent(), ImageType.POST_IMAGE);
+    }
+
+    private byte[] uniqueImageContent() throws IOException {
+        byte[] content = Files.readAllBytes(Paths.get("upload/default.png"));
+        byte[] unique = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = Arrays.copyOf(content, content.length + unique.length);
+        System.arraycopy(unique, 0, bytes, content.length, unique.length);
+        return bytes;
+    }
+
+    private String registerImage(byte[] content, ImageType imageType) {
+        MultipartFile mockFile = new MockMultipartFile("file", "unique.png", "image/png", content);
+        return imageService.registerImage(ImageDTO.builder()
+                .fileName(mockFile.getOriginalFilename())
+                .file(mockFile)
+                .imageType(imageType)
+                .build());
+    }
+
+    private ImageFileDTO awaitVariant(String fileName, int width) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ImageFileDTO served = imageService.getImageVariantFile(fileName, width);
+        while (!served.isImmutable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            served = imageService.getImageVariantFile(fileName, width);
+        }
+        return served;
+    }
+
+    private ThumbnailStatus awaitThumbnail(String fileName) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ThumbnailStatus status = imageService.getThumbnailStatus(fileName, null);
+        while (status == ThumbnailStatus.PENDING && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            status = imageService.getThumbnailStatus(fileName, null);
+        }
+        return status;
     }
 
 }
@@ -5,6 +5,8 @@ import com.jay.sapapi.domain.MemberRole;
 import com.jay.sapapi.dto.member.request.MemberModifyRequestDTO;
 import com.jay.sapapi.dto.member.request.MemberSignupRequestDTO;
 import com.jay.sapapi.dto.member.response.MemberResponseDTO;
+import com.jay.sapapi.dto.member.response.MemberSummaryDTO;
+import com.jay.sapapi.scheduler.MemberExistenceFilterRebuildScheduler;
 import com.jay.sapapi.util.exception.CustomValidationException;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Assertions;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 @SpringBootTest
@@ -29,6 +32,9 @@ public class MemberServiceTests {
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private MemberExistenceFilterRebuildScheduler memberExistenceFilterRebuildScheduler;
+
     private final Faker faker = new Faker();
 
     private MemberSignupRequestDTO signupRequestDTO;
@@ -140,6 +146,26 @@ public class MemberServiceTests {
             Assertions.assertFalse(memberService.existsByNickname(faker.regexify("[A-Za-z0-9]{5,10}")));
         }
 
+        @Test
+        @DisplayName("필터 재구성 후 회원 존재 여부 확인")
+        public void testExistsAfterFilterRebuild() {
+            memberExistenceFilterRebuildScheduler.rebuild();
+            Assertions.assertTrue(memberService.existsByEmail(signupRequestDTO.getEmail()));
+            Assertions.assertTrue(memberService.existsByNickname(signupRequestDTO.getNickname()));
+            Assertions.assertFalse(memberService.existsByEmail(faker.internet().emailAddress()));
+
+            MemberSignupRequestDTO memberDTO = MemberSignupRequestDTO.builder()
+                    .email(faker.internet().emailAddress())
+                    .password(faker.internet().password(8, 20, true, true))
+                    .nickname(faker.regexify("[A-Za-z0-9]{5,10}"))
+                    .role(MemberRole.USER)
+                    .build();
+            Long memberId = memberService.register(memberDTO);
+            Assertions.assertTrue(memberService.existsByEmail(memberDTO.getEmail()));
+            Assertions.assertTrue(memberService.existsByNickname(memberDTO.getNickname()));
+            memberService.remove(memberId);
+        }
+
     }
 
     @Nested
@@ -215,6 +241,22 @@ public class MemberServiceTests {
             Assertions.assertEquals(nickname, result.getNickname());
         }
 
+        @Test
+        @DisplayName("회원 정보 수정 시 회원 요약 캐시 갱신")
+        public void testModifyInvalidatesSummary() {
+            MemberSummaryDTO before = memberService.getSummaries(List.of(userId)).get(userId);
+            Assertions.assertEquals(signupRequestDTO.getNickname(), before.getNickname());
+
+            String nickname = faker.regexify("[A-Za-z0-9]{5,10}");
+            memberService.modify(userId, MemberModifyRequestDTO.builder()
+                    .email(signupRequestDTO.getEmail())
+                    .nickname(nickname)
+                    .build());
+
+            MemberSummaryDTO after = memberService.getSummaries(List.of(userId)).get(userId);
+            Assertions.assertEquals(nickname, after.getNickname());
+        }
+
         @Test
         @DisplayName("이메일 중복 실패")
         public void testModifyDuplicateEmail() {
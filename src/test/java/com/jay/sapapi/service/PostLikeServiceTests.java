@@ -5,8 +5,9 @@ import com.jay.sapapi.domain.MemberRole;
 import com.jay.sapapi.dto.member.request.MemberSignupRequestDTO;
 import com.jay.sapapi.dto.post.request.PostCreateRequestDTO;
 import com.jay.sapapi.dto.postlike.request.PostLikeCreateRequestDTO;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
 import com.jay.sapapi.dto.postlike.response.PostLikeResponseDTO;
-import com.jay.sapapi.util.exception.CustomValidationException;
+import com.jay.sapapi.dto.postlike.response.PostLikerResponseDTO;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -21,6 +22,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 @SpringBootTest
 @Log4j2
@@ -113,6 +115,54 @@ public class PostLikeServiceTests {
             Assertions.assertEquals(POST_LIKE_COUNT, result.size());
         }
 
+        @Test
+        @DisplayName("커서 좋아요가 취소되어도 다음 페이지 조회")
+        public void testGetLikersByPostAfterCursorRemoved() {
+            List<Long> likeIds = postLikeService.getLikersByPost(postId, null, POST_LIKE_COUNT).getItems().stream()
+                    .map(PostLikerResponseDTO::getLikeId)
+                    .toList();
+            Assertions.assertEquals(POST_LIKE_COUNT, likeIds.size());
+
+            CursorPageResponseDTO<PostLikerResponseDTO> first = postLikeService.getLikersByPost(postId, null, 2);
+            Assertions.assertTrue(first.isHasNext());
+            Assertions.assertEquals(likeIds.get(1), first.getNextCursor());
+
+            // 다음 페이지를 요청하기 전에 커서 좋아요가 취소됨
+            PostLikerResponseDTO cursorLiker = first.getItems().get(1);
+            postLikeService.remove(postId, cursorLiker.getUserId());
+
+            CursorPageResponseDTO<PostLikerResponseDTO> second = postLikeService.getLikersByPost(postId, first.getNextCursor(), 2);
+            Assertions.assertEquals(likeIds.subList(2, 4),
+                    second.getItems().stream().map(PostLikerResponseDTO::getLikeId).toList());
+            Assertions.assertTrue(second.isHasNext());
+
+            CursorPageResponseDTO<PostLikerResponseDTO> last = postLikeService.getLikersByPost(postId, second.getNextCursor(), 2);
+            Assertions.assertEquals(List.of(likeIds.get(4)),
+                    last.getItems().stream().map(PostLikerResponseDTO::getLikeId).toList());
+            Assertions.assertFalse(last.isHasNext());
+            Assertions.assertNull(last.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("좋아요 등록 및 삭제 시 게시글 좋아요 수 갱신")
+        public void testLikeCount() {
+            Assertions.assertEquals(POST_LIKE_COUNT, postService.get(postId).getLikeCount());
+            postLikeService.remove(postId, userId);
+            Assertions.assertEquals(POST_LIKE_COUNT - 1, postService.get(postId).getLikeCount());
+        }
+
+        @Test
+        @DisplayName("회원이 좋아요한 게시글 Id 일괄 조회")
+        public void testGetLikedPostIds() {
+            Assertions.assertEquals(Set.of(postId), postLikeService.getLikedPostIds(userId, List.of(postId, 0L)));
+
+            postLikeService.remove(postId, userId);
+            Assertions.assertTrue(postLikeService.getLikedPostIds(userId, List.of(postId)).isEmpty());
+
+            postLikeService.register(postId, userId);
+            Assertions.assertEquals(Set.of(postId), postLikeService.getLikedPostIds(userId, List.of(postId)));
+        }
+
     }
 
     @Nested
@@ -122,8 +172,22 @@ public class PostLikeServiceTests {
         @Test
         @DisplayName("게시글 좋아요 중복 등록")
         public void testRegisterDuplicate() {
-            CustomValidationException e = Assertions.assertThrows(CustomValidationException.class, () -> postLikeService.register(postId, userId));
-            Assertions.assertEquals("heartAlreadyExists", e.getMessage());
+            Assertions.assertFalse(postLikeService.register(postId, userId));
+            Assertions.assertEquals(POST_LIKE_COUNT, postService.get(postId).getLikeCount());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 게시글 좋아요 등록")
+        public void testRegisterInvalidPost() {
+            NoSuchElementException e = Assertions.assertThrows(NoSuchElementException.class, () -> postLikeService.register(0L, userId));
+            Assertions.assertEquals("postNotFound", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 회원 좋아요 등록")
+        public void testRegisterInvalidUser() {
+            NoSuchElementException e = Assertions.assertThrows(NoSuchElementException.class, () -> postLikeService.register(postId, 0L));
+            Assertions.assertEquals("userNotFound", e.getMessage());
         }
 
     }
@@ -135,7 +199,7 @@ public class PostLikeServiceTests {
         @Test
         @DisplayName("게시글 좋아요 삭제")
         public void testRemove() {
-            postLikeService.remove(postId, userId);
+            Assertions.assertTrue(postLikeService.remove(postId, userId));
             NoSuchElementException e = Assertions.assertThrows(NoSuchElementException.class, () -> postLikeService.get(postId, userId));
             Assertions.assertEquals("heartNotFound", e.getMessage());
         }
@@ -143,15 +207,14 @@ public class PostLikeServiceTests {
         @Test
         @DisplayName("존재하지 않는 게시글의 좋아요 삭제")
         public void testRemoveFail() {
-            NoSuchElementException e = Assertions.assertThrows(NoSuchElementException.class, () -> postLikeService.remove(0L, userId));
-            Assertions.assertEquals("heartNotFound", e.getMessage());
+            Assertions.assertFalse(postLikeService.remove(0L, userId));
         }
 
         @Test
         @DisplayName("존재하지 않는 회원의 좋아요 삭제")
         public void testRemoveInvalidUser() {
-            NoSuchElementException e = Assertions.assertThrows(NoSuchElementException.class, () -> postLikeService.remove(postId, 0L));
-            Assertions.assertEquals("heartNotFound", e.getMessage());
+            Assertions.assertFalse(postLikeService.remove(postId, 0L));
+            Assertions.assertEquals(POST_LIKE_COUNT, postService.get(postId).getLikeCount());
         }
 
         @Test
@@ -2,10 +2,13 @@ package com.jay.sapapi.service;
 
 import com.github.javafaker.Faker;
 import com.jay.sapapi.domain.MemberRole;
+import com.jay.sapapi.dto.common.CursorPageResponseDTO;
 import com.jay.sapapi.dto.member.request.MemberSignupRequestDTO;
 import com.jay.sapapi.dto.post.request.PostCreateRequestDTO;
 import com.jay.sapapi.dto.post.request.PostModifyRequestDTO;
 import com.jay.sapapi.dto.post.response.PostResponseDTO;
+import com.jay.sapapi.scheduler.ViewCountFlushScheduler;
+import com.jay.sapapi.scheduler.ViewerSketchFlushScheduler;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Assertions;
@@ -35,6 +38,12 @@ public class PostServiceTests {
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private ViewCountFlushScheduler viewCountFlushScheduler;
+
+    @Autowired
+    private ViewerSketchFlushScheduler viewerSketchFlushScheduler;
+
     private final Faker faker = new Faker();
 
     private final int POST_COUNT = 10;
@@ -100,6 +109,33 @@ public class PostServiceTests {
             Assertions.assertEquals(1, postResponseDTO.getViewCount());
         }
 
+        @Test
+        @DisplayName("게시글 조회수 일괄 반영")
+        public void testFlushViewCount() {
+            for (int i = 0; i < 3; i++) {
+                postService.incrementViewCount(postId);
+            }
+            viewCountFlushScheduler.flush();
+            PostResponseDTO postResponseDTO = postService.get(postId);
+            Assertions.assertEquals(3, postResponseDTO.getViewCount());
+        }
+
+        @Test
+        @DisplayName("게시글 고유 조회자 수 집계")
+        public void testUniqueViewerCount() {
+            for (int i = 0; i < 3; i++) {
+                postService.recordViewer(postId, "user:" + userId);
+                postService.recordViewer(postId, "client:127.0.0." + i);
+            }
+            viewerSketchFlushScheduler.flush();
+            Assertions.assertEquals(4, postService.get(postId).getUniqueViewerCount());
+
+            postService.recordViewer(postId, "user:" + userId);
+            postService.recordViewer(postId, "client:127.0.0.3");
+            viewerSketchFlushScheduler.flush();
+            Assertions.assertEquals(5, postService.get(postId).getUniqueViewerCount());
+        }
+
         @Test
         @DisplayName("게시글 목록 조회")
         public void testGetList() {
@@ -107,6 +143,27 @@ public class PostServiceTests {
             Assertions.assertEquals(POST_COUNT, result.size());
         }
 
+        @Test
+        @DisplayName("게시글 목록 커서 기반 페이지 조회")
+        public void testGetPage() {
+            int pageSize = 3, total = 0;
+            Long cursor = null, lastId = Long.MAX_VALUE;
+            CursorPageResponseDTO<PostResponseDTO> page;
+            do {
+                page = postService.getPage(cursor, pageSize);
+                Assertions.assertTrue(page.getItems().size() <= pageSize);
+                for (PostResponseDTO postResponseDTO : page.getItems()) {
+                    Assertions.assertTrue(postResponseDTO.getId() < lastId);
+                    lastId = postResponseDTO.getId();
+                }
+                total += page.getItems().size();
+                cursor = page.getNextCursor();
+            } while (page.isHasNext());
+
+            Assertions.assertNull(page.getNextCursor());
+            Assertions.assertEquals(postService.getList().size(), total);
+        }
+
     }
 
     @Nested
@@ -170,6 +227,8 @@ public class PostServiceTests {
             Assertions.assertEquals("ModifiedTitle", result.getTitle());
             Assertions.assertEquals("ModifiedContent", result.getContent());
             Assertions.assertNotNull(result.getPostImageUrl());
+            // 업로드 기록이 없는 외부 URL 은 크기를 알 수 없음
+            Assertions.assertNull(result.getPostImageWidth());
         }
 
         @Test